@@ -47,6 +47,7 @@ import org.jetbrains.kotlin.codegen.state.JetTypeMapper;
 import org.jetbrains.kotlin.codegen.when.SwitchCodegen;
 import org.jetbrains.kotlin.codegen.when.SwitchCodegenUtil;
 import org.jetbrains.kotlin.descriptors.*;
+import org.jetbrains.kotlin.descriptors.impl.LocalVariableDescriptor;
 import org.jetbrains.kotlin.descriptors.impl.ScriptCodeDescriptor;
 import org.jetbrains.kotlin.descriptors.impl.SyntheticFieldDescriptor;
 import org.jetbrains.kotlin.diagnostics.DiagnosticUtils;
@@ -1322,11 +1323,6 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         StringBuilder constantValue = new StringBuilder("");
         final KtStringTemplateEntry[] entries = expression.getEntries();
 
-        if (entries.length == 1 && entries[0] instanceof KtStringTemplateEntryWithExpression) {
-            KtExpression expr = entries[0].getExpression();
-            return genToString(gen(expr), expressionType(expr));
-        }
-
         for (KtStringTemplateEntry entry : entries) {
             if (entry instanceof KtLiteralStringTemplateEntry) {
                 constantValue.append(entry.getText());
@@ -1347,20 +1343,9 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             return StackValue.operation(JAVA_STRING_TYPE, new Function1<InstructionAdapter, Unit>() {
                 @Override
                 public Unit invoke(InstructionAdapter v) {
-                    genStringBuilderConstructor(v);
-                    for (KtStringTemplateEntry entry : entries) {
-                        if (entry instanceof KtStringTemplateEntryWithExpression) {
-                            invokeAppend(entry.getExpression());
-                        }
-                        else {
-                            String text = entry instanceof KtEscapeStringTemplateEntry
-                                          ? ((KtEscapeStringTemplateEntry) entry).getUnescapedValue()
-                                          : entry.getText();
-                            v.aconst(text);
-                            genInvokeAppendMethod(v, JAVA_STRING_TYPE);
-                        }
-                    }
-                    v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+                    StringConcatGenerator generator = new StringConcatGenerator(ExpressionCodegen.this);
+                    generator.addTemplateEntries(entries);
+                    generator.genToString(v);
                     return Unit.INSTANCE$;
                 }
             });
@@ -2397,11 +2382,55 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             }
         }
 
-        Callable callable = resolveToCallable(fd, superCall, resolvedCall);
+        Callable callable = superCall ? null : getDirectClosureInvoke(resolvedCall);
+        if (callable == null) {
+            callable = resolveToCallable(fd, superCall, resolvedCall);
+        }
 
         return callable.invokeMethodWithArguments(resolvedCall, receiver, this);
     }
 
+    /**
+     * Calls of a local val initialized with a lambda or an anonymous function are made directly to the invoke method
+     * of its closure class, which takes and returns unboxed values, instead of the erased invoke of the function type.
+     * The receiver is cast to the closure class, so this also works when the val is captured by a nested closure.
+     * Function-typed properties and parameters are not handled: their value can be any implementation of the function type,
+     * and there is no closure class to call without a runtime type check.
+     */
+    @Nullable
+    private CallableMethod getDirectClosureInvoke(@NotNull ResolvedCall<?> resolvedCall) {
+        if (!(resolvedCall instanceof VariableAsFunctionResolvedCall)) return null;
+        VariableAsFunctionResolvedCall call = (VariableAsFunctionResolvedCall) resolvedCall;
+        if (call.getFunctionCall().getExtensionReceiver().exists()) return null;
+
+        VariableDescriptor variable = call.getVariableCall().getResultingDescriptor();
+        if (!(variable instanceof LocalVariableDescriptor) || variable.isVar()) return null;
+
+        PsiElement declaration = DescriptorToSourceUtils.descriptorToDeclaration(variable);
+        if (!(declaration instanceof KtProperty) || ((KtProperty) declaration).hasDelegate()) return null;
+        KtExpression initializer = ((KtProperty) declaration).getInitializer();
+        if (initializer == null || bindingContext.get(SAM_VALUE, initializer) != null) return null;
+
+        KtExpression function = KtPsiUtil.deparenthesize(initializer);
+        if (function instanceof KtFunctionLiteralExpression) {
+            KtFunctionLiteralExpression lambda = (KtFunctionLiteralExpression) function;
+            if (Boolean.TRUE.equals(bindingContext.get(BLOCK, lambda))) return null;
+            function = lambda.getFunctionLiteral();
+        }
+        else if (!(function instanceof KtNamedFunction)) {
+            return null;
+        }
+
+        FunctionDescriptor closure = bindingContext.get(FUNCTION, function);
+        if (closure == null || closure.getExtensionReceiverParameter() != null ||
+            closure.getValueParameters().size() != call.getFunctionCall().getResultingDescriptor().getValueParameters().size()) {
+            return null;
+        }
+
+        Type closureType = asmTypeForAnonymousClass(bindingContext, closure);
+        return new CallableMethod(closureType, null, null, typeMapper.mapSignature(closure), INVOKEVIRTUAL, closureType, null, null);
+    }
+
     @Nullable
     // Find the first parent of the current context which corresponds to a subclass of a given class
     public static CodegenContext getParentContextSubclassOf(ClassDescriptor descriptor, CodegenContext context) {
@@ -3182,26 +3211,6 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
-    public void invokeAppend(KtExpression expr) {
-        if (expr instanceof KtBinaryExpression) {
-            KtBinaryExpression binaryExpression = (KtBinaryExpression) expr;
-            if (binaryExpression.getOperationToken() == KtTokens.PLUS) {
-                KtExpression left = binaryExpression.getLeft();
-                KtExpression right = binaryExpression.getRight();
-                Type leftType = expressionType(left);
-
-                if (leftType.equals(JAVA_STRING_TYPE)) {
-                    invokeAppend(left);
-                    invokeAppend(right);
-                    return;
-                }
-            }
-        }
-        Type exprType = expressionType(expr);
-        gen(expr, exprType);
-        genInvokeAppendMethod(v, exprType.getSort() == Type.ARRAY ? OBJECT_TYPE : exprType);
-    }
-
     @Nullable
     private static KtSimpleNameExpression targetLabel(KtExpression expression) {
         if (expression.getParent() instanceof KtLabeledExpression) {
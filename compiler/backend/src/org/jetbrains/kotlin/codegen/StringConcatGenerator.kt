@@ -0,0 +1,154 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.lexer.KtTokens
+import org.jetbrains.kotlin.psi.*
+import org.jetbrains.kotlin.resolve.constants.evaluate.ConstantExpressionEvaluator
+import org.jetbrains.kotlin.resolve.jvm.AsmTypes
+import org.jetbrains.kotlin.types.TypeUtils
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.commons.InstructionAdapter
+
+/**
+ * Generates string templates and chains of string concatenations with a single StringBuilder.
+ * Nested templates and concatenations are flattened, adjacent compile-time constant parts are merged into one string,
+ * and the builder is presized to fit the constant parts and an estimate for the rest.
+ */
+public class StringConcatGenerator(private val codegen: ExpressionCodegen) {
+    private class Part(val constant: String?, val expression: KtExpression?)
+
+    private val parts = arrayListOf<Part>()
+
+    fun addTemplateEntries(entries: Array<KtStringTemplateEntry>) {
+        for (entry in entries) {
+            when (entry) {
+                is KtLiteralStringTemplateEntry -> addConstant(entry.text)
+                is KtEscapeStringTemplateEntry -> addConstant(entry.unescapedValue)
+                else -> addExpression(entry.expression!!)
+            }
+        }
+    }
+
+    fun addExpression(expression: KtExpression) {
+        val deparenthesized = KtPsiUtil.deparenthesize(expression) ?: expression
+
+        val constant = getFoldableConstant(deparenthesized)
+        if (constant != null) {
+            addConstant(constant)
+            return
+        }
+
+        if (deparenthesized is KtStringTemplateExpression) {
+            addTemplateEntries(deparenthesized.entries)
+            return
+        }
+
+        if (deparenthesized is KtBinaryExpression && deparenthesized.operationToken == KtTokens.PLUS) {
+            val left = deparenthesized.left!!
+            if (codegen.expressionType(left) == AsmTypes.JAVA_STRING_TYPE) {
+                addExpression(left)
+                addExpression(deparenthesized.right!!)
+                return
+            }
+        }
+
+        parts.add(Part(null, deparenthesized))
+    }
+
+    private fun addConstant(value: String) {
+        val last = parts.lastOrNull()
+        if (last?.constant != null) {
+            parts[parts.size() - 1] = Part(last.constant + value, null)
+        }
+        else {
+            parts.add(Part(value, null))
+        }
+    }
+
+    // constants of non-const vals are not folded, so that changing such a val doesn't require recompiling its usages
+    private fun getFoldableConstant(expression: KtExpression): String? {
+        val compileTimeConstant = ConstantExpressionEvaluator.getConstant(expression, codegen.bindingContext) ?: return null
+        if (compileTimeConstant.isError || compileTimeConstant.usesNonConstValAsConstant) return null
+
+        val value = ExpressionCodegen.getCompileTimeConstant(expression, codegen.bindingContext)?.value
+        return when (value) {
+            is String, is Number, is Char, is Boolean -> value.toString()
+            else -> null
+        }
+    }
+
+    /**
+     * Puts the resulting string on the stack
+     */
+    fun genToString(v: InstructionAdapter) {
+        val single = parts.singleOrNull()
+        if (parts.isEmpty() || single?.constant != null) {
+            v.aconst(single?.constant ?: "")
+            return
+        }
+        if (single != null) {
+            genSingleExpressionToString(single.expression!!, v)
+            return
+        }
+
+        val constantLength = parts.sumBy { it.constant?.length() ?: 0 }
+        val expressionCount = parts.count { it.expression != null }
+        v.anew(STRING_BUILDER_TYPE)
+        v.dup()
+        v.iconst(constantLength + expressionCount * EXPRESSION_LENGTH_ESTIMATE)
+        v.invokespecial(STRING_BUILDER_TYPE.internalName, "<init>", "(I)V", false)
+        genAppends(v)
+        v.invokevirtual(STRING_BUILDER_TYPE.internalName, "toString", "()Ljava/lang/String;", false)
+    }
+
+    /**
+     * Appends all the parts to the StringBuilder on the top of the stack
+     */
+    fun genAppends(v: InstructionAdapter) {
+        for (part in parts) {
+            if (part.constant != null) {
+                v.aconst(part.constant)
+                AsmUtil.genInvokeAppendMethod(v, AsmTypes.JAVA_STRING_TYPE)
+            }
+            else {
+                val type = codegen.expressionType(part.expression)
+                codegen.gen(part.expression, type)
+                AsmUtil.genInvokeAppendMethod(v, if (type.sort == Type.ARRAY) AsmTypes.OBJECT_TYPE else type)
+            }
+        }
+    }
+
+    private fun genSingleExpressionToString(expression: KtExpression, v: InstructionAdapter) {
+        val type = codegen.expressionType(expression)
+        val kotlinType = codegen.bindingContext.getType(expression)
+        if (type == AsmTypes.JAVA_STRING_TYPE && kotlinType != null && !TypeUtils.isNullableType(kotlinType)) {
+            // a not-null string needs no conversion
+            codegen.gen(expression, type)
+        }
+        else {
+            AsmUtil.genToString(codegen.gen(expression), type).put(AsmTypes.JAVA_STRING_TYPE, v)
+        }
+    }
+
+    companion object {
+        private val STRING_BUILDER_TYPE = Type.getObjectType("java/lang/StringBuilder")
+
+        // a rough guess of the length of a non-constant part, used to presize the builder
+        private val EXPRESSION_LENGTH_ESTIMATE = 16
+    }
+}
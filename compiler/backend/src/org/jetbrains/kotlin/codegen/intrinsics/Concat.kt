@@ -23,6 +23,7 @@ import org.jetbrains.kotlin.codegen.Callable
 import org.jetbrains.kotlin.codegen.CallableMethod
 import org.jetbrains.kotlin.codegen.ExpressionCodegen
 import org.jetbrains.kotlin.codegen.StackValue
+import org.jetbrains.kotlin.codegen.StringConcatGenerator
 import org.jetbrains.kotlin.lexer.KtTokens
 import org.jetbrains.kotlin.psi.KtBinaryExpression
 import org.jetbrains.kotlin.psi.KtExpression
@@ -43,9 +44,12 @@ public class Concat : IntrinsicMethod() {
     ): Type {
         if (element is KtBinaryExpression && element.getOperationReference().getReferencedNameElementType() == KtTokens.PLUS) {
             // LHS + RHS
-            genStringBuilderConstructor(v)
-            codegen.invokeAppend(element.getLeft())
-            codegen.invokeAppend(element.getRight())
+            // the operands are added one by one: adding the element itself would not flatten it when the left operand
+            // is a smart cast String, and then generating it as a single part would get back here again
+            val generator = StringConcatGenerator(codegen)
+            generator.addExpression(element.getLeft()!!)
+            generator.addExpression(element.getRight()!!)
+            generator.genToString(v)
         }
         else {
             // LHS?.plus(RHS)
@@ -53,10 +57,12 @@ public class Concat : IntrinsicMethod() {
             genStringBuilderConstructor(v)
             v.swap()
             genInvokeAppendMethod(v, returnType)
-            codegen.invokeAppend(arguments.get(0))
+            val generator = StringConcatGenerator(codegen)
+            generator.addExpression(arguments.get(0))
+            generator.genAppends(v)
+            v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false)
         }
 
-        v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false)
         return JAVA_STRING_TYPE
     }
 
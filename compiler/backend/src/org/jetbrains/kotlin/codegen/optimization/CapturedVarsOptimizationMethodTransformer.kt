@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.kotlin.resolve.jvm.AsmTypes
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+
+/**
+ * Replaces shared variable refs (kotlin.jvm.internal.Ref.*Ref) which never leave the method with plain local variables.
+ * This is the case for variables captured only by inlined lambdas: after inlining, all the accesses to the ref are
+ * in the same method, so there's no need to allocate it and to read and write its volatile field.
+ */
+public class CapturedVarsOptimizationMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        val allocations = methodNode.instructions.toArray().filter {
+            it.opcode == Opcodes.NEW && (it as TypeInsnNode).desc.startsWith(AsmTypes.REF_TYPE_PREFIX)
+        }
+        if (allocations.isEmpty()) return
+
+        val interpreter = SourceInterpreter()
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, interpreter)
+
+        // all the refs are analyzed before any of them is rewritten, because rewriting invalidates the frames
+        val refs = allocations
+                .map { SharedRef(it as TypeInsnNode, methodNode, frames, interpreter) }
+                .filter { it.elementType != null && it.canBeReplacedWithLocal() }
+
+        for (ref in refs) {
+            ref.replaceWithLocal()
+        }
+    }
+
+    private class SharedRef(
+            allocation: TypeInsnNode,
+            methodNode: MethodNode,
+            frames: Array<Frame<SourceValue>?>,
+            interpreter: SourceInterpreter
+    ) : NonEscapingAllocation(allocation, methodNode, frames, interpreter) {
+        val elementType: Type? = refElementType(allocation.desc)
+
+        private val fieldAccesses = arrayListOf<FieldInsnNode>()
+        private val dupsOverRef = arrayListOf<InsnNode>()
+        private var constructorCall: AbstractInsnNode? = null
+
+        fun canBeReplacedWithLocal(): Boolean = collectUses() && constructorCall != null
+
+        override fun recordUse(insn: AbstractInsnNode, frame: Frame<SourceValue>, depth: Int): Boolean {
+            when (insn.opcode) {
+                Opcodes.GETFIELD -> if (depth == 0 && isElementField(insn)) {
+                    fieldAccesses.add(insn as FieldInsnNode)
+                    return true
+                }
+                Opcodes.PUTFIELD -> if (depth == 1 && isElementField(insn)) {
+                    fieldAccesses.add(insn as FieldInsnNode)
+                    return true
+                }
+                Opcodes.INVOKESPECIAL -> if (depth == 0 && isConstructorCall(insn) && constructorCall == null) {
+                    constructorCall = insn
+                    return true
+                }
+                Opcodes.ASTORE -> return depth == 0 && insn in stores
+                // postfix increments and decrements: the value is put under the ref before it's written to the ref
+                Opcodes.DUP_X1, Opcodes.DUP2_X1 -> if (depth == 1) {
+                    val size = if (insn.opcode == Opcodes.DUP_X1) 1 else 2
+                    if (frame.getStack(frame.stackSize - 1).size == size) {
+                        dupsOverRef.add(insn as InsnNode)
+                        return true
+                    }
+                }
+            }
+            return false
+        }
+
+        private fun isElementField(insn: AbstractInsnNode): Boolean {
+            val fieldInsn = insn as FieldInsnNode
+            return fieldInsn.owner == allocation.desc && fieldInsn.name == "element"
+        }
+
+        private fun isConstructorCall(insn: AbstractInsnNode): Boolean {
+            val methodInsn = insn as MethodInsnNode
+            return methodInsn.owner == allocation.desc && methodInsn.name == "<init>" && methodInsn.desc == "()V"
+        }
+
+        fun replaceWithLocal() {
+            val type = elementType!!
+            val instructions = methodNode.instructions
+
+            val index = methodNode.maxLocals
+            methodNode.maxLocals += type.size
+
+            for (localVariable in methodNode.localVariables.orEmpty()) {
+                if (localVariable.desc == "L${allocation.desc};" && startsAfterStore(localVariable)) {
+                    localVariable.desc = type.descriptor
+                    localVariable.signature = null
+                    localVariable.index = index
+                }
+            }
+
+            // a new ref holds the default value of its type
+            val constructor = constructorCall!!
+            instructions.insertBefore(constructor, InsnNode(defaultValueOpcode(type)))
+            instructions.set(constructor, VarInsnNode(type.getOpcode(Opcodes.ISTORE), index))
+
+            for (fieldAccess in fieldAccesses) {
+                val opcode = if (fieldAccess.opcode == Opcodes.GETFIELD) Opcodes.ILOAD else Opcodes.ISTORE
+                instructions.set(fieldAccess, VarInsnNode(type.getOpcode(opcode), index))
+            }
+
+            for (dup in dupsOverRef) {
+                instructions.set(dup, InsnNode(if (dup.opcode == Opcodes.DUP_X1) Opcodes.DUP else Opcodes.DUP2))
+            }
+
+            removeProducersAndStores()
+        }
+    }
+
+    companion object {
+        private fun refElementType(refInternalName: String): Type? =
+                when (refInternalName.removePrefix(AsmTypes.REF_TYPE_PREFIX)) {
+                    "ObjectRef" -> AsmTypes.OBJECT_TYPE
+                    "ByteRef" -> Type.BYTE_TYPE
+                    "ShortRef" -> Type.SHORT_TYPE
+                    "IntRef" -> Type.INT_TYPE
+                    "LongRef" -> Type.LONG_TYPE
+                    "FloatRef" -> Type.FLOAT_TYPE
+                    "DoubleRef" -> Type.DOUBLE_TYPE
+                    "CharRef" -> Type.CHAR_TYPE
+                    "BooleanRef" -> Type.BOOLEAN_TYPE
+                    else -> null
+                }
+
+        private fun defaultValueOpcode(type: Type): Int =
+                when (type.sort) {
+                    Type.LONG -> Opcodes.LCONST_0
+                    Type.FLOAT -> Opcodes.FCONST_0
+                    Type.DOUBLE -> Opcodes.DCONST_0
+                    Type.OBJECT -> Opcodes.ACONST_NULL
+                    else -> Opcodes.ICONST_0
+                }
+    }
+}
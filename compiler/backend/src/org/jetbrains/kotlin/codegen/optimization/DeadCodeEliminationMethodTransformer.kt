@@ -16,22 +16,75 @@
 
 package org.jetbrains.kotlin.codegen.optimization
 
-import org.jetbrains.org.objectweb.asm.tree.MethodNode
-import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
-import org.jetbrains.kotlin.codegen.optimization.common.OptimizationBasicInterpreter
 import org.jetbrains.kotlin.codegen.optimization.common.isMeaningful
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.tree.*
+import java.util.ArrayDeque
 
 public class DeadCodeEliminationMethodTransformer : MethodTransformer() {
     override fun transform(internalClassName: String, methodNode: MethodNode) {
-        val frames = MethodTransformer.analyze(internalClassName, methodNode, OptimizationBasicInterpreter())
         val insnList = methodNode.instructions
         val insnsArray = insnList.toArray()
+        val reachable = findReachableInstructions(methodNode)
 
         // Do not remove not meaningful nodes (labels/linenumbers) because they can be referred
         // by try/catch blocks or local variables table
         // We remove unneeded ones further after all optimizations by calling CommonPackage.prepareForEmitting(methodNode)
-        insnsArray.zip(frames).filter {
-            it.second == null && it.first.isMeaningful
-        }.forEach { insnList.remove(it.first) }
+        insnsArray.withIndex().filter {
+            !reachable[it.index] && it.value.isMeaningful
+        }.forEach { insnList.remove(it.value) }
+    }
+
+    /**
+     * Finds instructions reachable by control flow from the method start, which are exactly the instructions
+     * the bytecode analyzer computes frames for. Doesn't need frames, so it's cheap even for very large methods
+     */
+    private fun findReachableInstructions(methodNode: MethodNode): BooleanArray {
+        val insnList = methodNode.instructions
+        val reachable = BooleanArray(insnList.size())
+        val queue = ArrayDeque<Int>()
+
+        fun visit(index: Int) {
+            if (index < reachable.size() && !reachable[index]) {
+                reachable[index] = true
+                queue.add(index)
+            }
+        }
+
+        val tryCatchBlocks = methodNode.tryCatchBlocks.map {
+            Triple(insnList.indexOf(it.start), insnList.indexOf(it.end), insnList.indexOf(it.handler))
+        }
+
+        visit(0)
+        while (!queue.isEmpty()) {
+            val index = queue.poll()
+            val insn = insnList.get(index)
+
+            for ((start, end, handler) in tryCatchBlocks) {
+                if (index >= start && index < end) visit(handler)
+            }
+
+            when (insn) {
+                is JumpInsnNode -> {
+                    visit(insnList.indexOf(insn.label))
+                    if (insn.opcode != Opcodes.GOTO) visit(index + 1)
+                }
+                is TableSwitchInsnNode -> {
+                    visit(insnList.indexOf(insn.dflt))
+                    insn.labels.forEach { visit(insnList.indexOf(it)) }
+                }
+                is LookupSwitchInsnNode -> {
+                    visit(insnList.indexOf(insn.dflt))
+                    insn.labels.forEach { visit(insnList.indexOf(it)) }
+                }
+                else -> if (!insn.isTerminal) visit(index + 1)
+            }
+        }
+
+        return reachable
     }
+
+    private val AbstractInsnNode.isTerminal: Boolean
+        get() = opcode == Opcodes.ATHROW || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)
 }
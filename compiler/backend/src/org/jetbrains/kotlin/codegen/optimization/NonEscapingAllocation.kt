@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.common.isMeaningful
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+
+/**
+ * An object allocated by the given NEW instruction, together with all the instructions that pass it around within the method.
+ * Subclasses decide which uses of the object are allowed; if every use is allowed, the object never escapes the method
+ * and can be replaced with local variables.
+ */
+public abstract class NonEscapingAllocation(
+        protected val allocation: TypeInsnNode,
+        protected val methodNode: MethodNode,
+        private val frames: Array<Frame<SourceValue>?>,
+        private val interpreter: SourceInterpreter
+) {
+    // instructions pushing the object on the stack: the allocation itself, loads of locals holding the object and DUPs of it
+    protected val producers: MutableSet<AbstractInsnNode> = hashSetOf(allocation)
+    protected val stores: MutableSet<AbstractInsnNode> = hashSetOf()
+
+    /**
+     * Returns true if the instruction consuming the object at the given depth of the stack is one of the allowed uses,
+     * remembering it for the rewrite
+     */
+    protected abstract fun recordUse(insn: AbstractInsnNode, frame: Frame<SourceValue>, depth: Int): Boolean
+
+    protected fun collectUses(): Boolean {
+        val insns = methodNode.instructions.toArray()
+        if (!collectProducers(insns)) return false
+
+        for ((index, insn) in insns.withIndex()) {
+            val frame = frames[index] ?: continue
+            for (stackIndex in 0..frame.stackSize - 1) {
+                val value = frame.getStack(stackIndex)
+                if (value.insns.none { it in producers }) continue
+                if (!producers.containsAll(value.insns)) return false
+
+                if (isConsumed(insn, frame, stackIndex) && !recordUse(insn, frame, frame.stackSize - 1 - stackIndex)) return false
+            }
+        }
+        return true
+    }
+
+    private fun collectProducers(insns: Array<AbstractInsnNode>): Boolean {
+        var changed = true
+        while (changed) {
+            changed = false
+            insns@for ((index, insn) in insns.withIndex()) {
+                val frame = frames[index] ?: continue@insns
+                val sources = when (insn.opcode) {
+                    Opcodes.ALOAD -> frame.getLocal((insn as VarInsnNode).`var`).insns
+                    Opcodes.ASTORE, Opcodes.DUP -> frame.getStack(frame.stackSize - 1).insns
+                    else -> continue@insns
+                }
+                val known = if (insn.opcode == Opcodes.ALOAD) stores else producers
+                if (sources.none { it in known }) continue
+                if (!known.containsAll(sources)) return false
+
+                val added = if (insn.opcode == Opcodes.ASTORE) stores.add(insn) else producers.add(insn)
+                changed = changed || added
+            }
+        }
+        return true
+    }
+
+    private fun isConsumed(insn: AbstractInsnNode, frame: Frame<SourceValue>, stackIndex: Int): Boolean {
+        // labels, line numbers and frames can't be executed and don't touch the stack,
+        // but they appear whenever the object stays on the stack across a branch or a line break
+        val type = insn.type
+        if (type == AbstractInsnNode.LABEL || type == AbstractInsnNode.LINE || type == AbstractInsnNode.FRAME) return false
+
+        // these instructions may copy the object without the copy being tracked, so they count as uses of any object on the stack
+        if (insn.opcode in STACK_SHUFFLING_OPCODES) return true
+
+        val after = Frame(frame)
+        after.execute(insn, interpreter)
+        return stackIndex >= after.stackSize || after.getStack(stackIndex) !== frame.getStack(stackIndex)
+    }
+
+    protected fun removeProducersAndStores() {
+        for (insn in producers + stores) {
+            methodNode.instructions.remove(insn)
+        }
+    }
+
+    protected fun startsAfterStore(localVariable: LocalVariableNode): Boolean {
+        var insn: AbstractInsnNode? = localVariable.start
+        while (insn != null && !insn.isMeaningful) {
+            insn = insn.previous
+        }
+        return insn in stores
+    }
+
+    companion object {
+        private val STACK_SHUFFLING_OPCODES = setOf(
+                Opcodes.DUP_X1, Opcodes.DUP_X2, Opcodes.DUP2, Opcodes.DUP2_X1, Opcodes.DUP2_X2, Opcodes.SWAP
+        )
+    }
+}
@@ -39,12 +39,20 @@ public class OptimizationMethodVisitor extends MethodVisitor {
     private static final MethodTransformer MANDATORY_METHOD_TRANSFORMER = new MandatoryMethodTransformer();
 
     private static final MethodTransformer[] OPTIMIZATION_TRANSFORMERS = new MethodTransformer[] {
+            new CapturedVarsOptimizationMethodTransformer(),
+            new RangeAllocationOptimizationMethodTransformer(),
             new RedundantNullCheckMethodTransformer(),
             new RedundantBoxingMethodTransformer(),
             new DeadCodeEliminationMethodTransformer(),
             new RedundantGotoMethodTransformer()
     };
 
+    // Transformers that don't compute frames, so they can be applied to methods too large for the others
+    private static final MethodTransformer[] FRAMELESS_OPTIMIZATION_TRANSFORMERS = new MethodTransformer[] {
+            new DeadCodeEliminationMethodTransformer(),
+            new RedundantGotoMethodTransformer()
+    };
+
     private final MethodNode methodNode;
     private final MethodVisitor delegate;
     private final boolean disableOptimization;
@@ -77,8 +85,10 @@ public class OptimizationMethodVisitor extends MethodVisitor {
 
         if (shouldBeTransformed(methodNode)) {
             MANDATORY_METHOD_TRANSFORMER.transform("fake", methodNode);
-            if (canBeOptimized(methodNode) && !disableOptimization) {
-                for (MethodTransformer transformer : OPTIMIZATION_TRANSFORMERS) {
+            if (!disableOptimization) {
+                MethodTransformer[] transformers =
+                        canBeOptimized(methodNode) ? OPTIMIZATION_TRANSFORMERS : FRAMELESS_OPTIMIZATION_TRANSFORMERS;
+                for (MethodTransformer transformer : transformers) {
                     transformer.transform("fake", methodNode);
                 }
             }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.AsmUtil
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+
+/**
+ * Replaces ranges of integral primitives (kotlin.IntRange, kotlin.LongRange etc.) which never leave the method
+ * with a pair of local variables holding their bounds, e.g. in `x in a..b` for non-Int types or when a range is stored
+ * in a local variable and then iterated over or checked for containment.
+ * The only allowed uses of such a range are reading its start and end, `contains` and `isEmpty`.
+ */
+public class RangeAllocationOptimizationMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        val allocations = methodNode.instructions.toArray().filter {
+            it.opcode == Opcodes.NEW && rangeElementType((it as TypeInsnNode).desc) != null
+        }
+        if (allocations.isEmpty()) return
+
+        val interpreter = SourceInterpreter()
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, interpreter)
+
+        // all the ranges are analyzed before any of them is rewritten, because rewriting invalidates the frames
+        val ranges = allocations
+                .map { LocalRange(it as TypeInsnNode, methodNode, frames, interpreter) }
+                .filter { it.canBeReplacedWithLocals() }
+
+        for (range in ranges) {
+            range.replaceWithLocals()
+        }
+    }
+
+    private class LocalRange(
+            allocation: TypeInsnNode,
+            methodNode: MethodNode,
+            frames: Array<Frame<SourceValue>?>,
+            interpreter: SourceInterpreter
+    ) : NonEscapingAllocation(allocation, methodNode, frames, interpreter) {
+        private val elementType: Type = rangeElementType(allocation.desc)!!
+
+        private val calls = arrayListOf<MethodInsnNode>()
+        private var constructorCall: MethodInsnNode? = null
+
+        fun canBeReplacedWithLocals(): Boolean = collectUses() && constructorCall != null
+
+        override fun recordUse(insn: AbstractInsnNode, frame: Frame<SourceValue>, depth: Int): Boolean {
+            when (insn.opcode) {
+                Opcodes.INVOKESPECIAL -> if (depth == 2 && constructorCall == null && isCall(insn, "<init>", "(${elementType.descriptor}${elementType.descriptor})V")) {
+                    constructorCall = insn as MethodInsnNode
+                    return true
+                }
+                Opcodes.INVOKEVIRTUAL -> {
+                    val boundDesc = "()${AsmUtil.boxType(elementType).descriptor}"
+                    val isAllowedCall = when (depth) {
+                        0 -> isCall(insn, "getStart", boundDesc) || isCall(insn, "getEnd", boundDesc) || isCall(insn, "isEmpty", "()Z")
+                        1 -> isCall(insn, "contains", "(${elementType.descriptor})Z")
+                        else -> false
+                    }
+                    if (isAllowedCall) {
+                        calls.add(insn as MethodInsnNode)
+                        return true
+                    }
+                }
+                Opcodes.ASTORE -> return depth == 0 && insn in stores
+            }
+            return false
+        }
+
+        private fun isCall(insn: AbstractInsnNode, name: String, desc: String): Boolean {
+            val methodInsn = insn as MethodInsnNode
+            return methodInsn.owner == allocation.desc && methodInsn.name == name && methodInsn.desc == desc
+        }
+
+        fun replaceWithLocals() {
+            val instructions = methodNode.instructions
+
+            val startIndex = methodNode.maxLocals
+            val endIndex = startIndex + elementType.size
+            methodNode.maxLocals += 2 * elementType.size
+            // comparisons keep the element and both bounds on the stack where the range and the element used to be
+            methodNode.maxStack += 2 * elementType.size
+
+            val localVariables = methodNode.localVariables
+            if (localVariables != null) {
+                localVariables.removeAll(localVariables.filter { it.desc == "L${allocation.desc};" && startsAfterStore(it) })
+            }
+
+            val constructor = constructorCall!!
+            instructions.insertBefore(constructor, VarInsnNode(elementType.getOpcode(Opcodes.ISTORE), endIndex))
+            instructions.set(constructor, VarInsnNode(elementType.getOpcode(Opcodes.ISTORE), startIndex))
+
+            for (call in calls) {
+                val replacement = when (call.name) {
+                    "getStart" -> loadBoxed(startIndex)
+                    "getEnd" -> loadBoxed(endIndex)
+                    "contains" -> containsCheck(startIndex, endIndex)
+                    else -> isEmptyCheck(startIndex, endIndex)
+                }
+                instructions.insert(call, replacement)
+                instructions.remove(call)
+            }
+
+            removeProducersAndStores()
+        }
+
+        // the boxed bound is usually unboxed right away, and RedundantBoxingMethodTransformer removes such pairs
+        private fun loadBoxed(index: Int): InsnList {
+            val boxedType = AsmUtil.boxType(elementType)
+            return InsnList().apply {
+                add(VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), index))
+                add(MethodInsnNode(Opcodes.INVOKESTATIC, boxedType.internalName, "valueOf",
+                                   Type.getMethodDescriptor(boxedType, elementType), false))
+            }
+        }
+
+        private fun containsCheck(startIndex: Int, endIndex: Int): InsnList {
+            val outOfRangeWithElement = LabelNode(Label())
+            val outOfRange = LabelNode(Label())
+            val end = LabelNode(Label())
+            return InsnList().apply {
+                // element
+                add(InsnNode(if (elementType.size == 2) Opcodes.DUP2 else Opcodes.DUP))
+                add(VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), startIndex))
+                // element element start
+                addCompareAndJump(this, Opcodes.IF_ICMPLT, Opcodes.IFLT, outOfRangeWithElement)
+                add(VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), endIndex))
+                // element end
+                addCompareAndJump(this, Opcodes.IF_ICMPGT, Opcodes.IFGT, outOfRange)
+                add(InsnNode(Opcodes.ICONST_1))
+                add(JumpInsnNode(Opcodes.GOTO, end))
+                add(outOfRangeWithElement)
+                add(InsnNode(if (elementType.size == 2) Opcodes.POP2 else Opcodes.POP))
+                add(outOfRange)
+                add(InsnNode(Opcodes.ICONST_0))
+                add(end)
+            }
+        }
+
+        private fun isEmptyCheck(startIndex: Int, endIndex: Int): InsnList {
+            val empty = LabelNode(Label())
+            val end = LabelNode(Label())
+            return InsnList().apply {
+                add(VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), startIndex))
+                add(VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), endIndex))
+                addCompareAndJump(this, Opcodes.IF_ICMPGT, Opcodes.IFGT, empty)
+                add(InsnNode(Opcodes.ICONST_0))
+                add(JumpInsnNode(Opcodes.GOTO, end))
+                add(empty)
+                add(InsnNode(Opcodes.ICONST_1))
+                add(end)
+            }
+        }
+
+        private fun addCompareAndJump(list: InsnList, intCompareOpcode: Int, longCompareOpcode: Int, label: LabelNode) {
+            if (elementType.sort == Type.LONG) {
+                list.add(InsnNode(Opcodes.LCMP))
+                list.add(JumpInsnNode(longCompareOpcode, label))
+            }
+            else {
+                list.add(JumpInsnNode(intCompareOpcode, label))
+            }
+        }
+    }
+
+    companion object {
+        private fun rangeElementType(internalName: String): Type? =
+                when (internalName) {
+                    "kotlin/IntRange" -> Type.INT_TYPE
+                    "kotlin/LongRange" -> Type.LONG_TYPE
+                    "kotlin/CharRange" -> Type.CHAR_TYPE
+                    "kotlin/ByteRange" -> Type.BYTE_TYPE
+                    "kotlin/ShortRange" -> Type.SHORT_TYPE
+                    else -> null
+                }
+    }
+}
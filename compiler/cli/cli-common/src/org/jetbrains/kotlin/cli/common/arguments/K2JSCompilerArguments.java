@@ -58,6 +58,9 @@ public class K2JSCompilerArguments extends CommonCompilerArguments {
     @ValueDescription("<path>")
     public String outputPostfix;
 
+    @Argument(value = "Xreport-perf", description = "Report detailed performance statistics")
+    public boolean reportPerf;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
@@ -55,6 +55,7 @@ import org.jetbrains.kotlin.js.facade.K2JSTranslator;
 import org.jetbrains.kotlin.js.facade.MainCallParameters;
 import org.jetbrains.kotlin.js.facade.TranslationResult;
 import org.jetbrains.kotlin.psi.KtFile;
+import org.jetbrains.kotlin.util.PerformanceCounter;
 import org.jetbrains.kotlin.utils.PathUtil;
 
 import java.io.File;
@@ -92,6 +93,8 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
             return ExitCode.COMPILATION_ERROR;
         }
 
+        PerformanceCounter.Companion.setTimeCounterEnabled(arguments.reportPerf);
+
         CompilerConfiguration configuration = new CompilerConfiguration();
         configuration.put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, messageSeverityCollector);
 
@@ -207,6 +210,16 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
 
         OutputUtilsKt.writeAll(outputFiles, outputDir, messageSeverityCollector);
 
+        if (arguments.reportPerf) {
+            PerformanceCounter.Companion.report(new Function1<String, Unit>() {
+                @Override
+                public Unit invoke(String message) {
+                    messageSeverityCollector.report(CompilerMessageSeverity.INFO, "PERF: " + message, NO_LOCATION);
+                    return Unit.INSTANCE$;
+                }
+            });
+        }
+
         return OK;
     }
 
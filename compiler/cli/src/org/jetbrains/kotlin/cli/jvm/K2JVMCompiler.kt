@@ -40,6 +40,7 @@ import org.jetbrains.kotlin.config.addKotlinSourceRoot
 import org.jetbrains.kotlin.load.java.JvmAbi
 import org.jetbrains.kotlin.load.kotlin.incremental.components.IncrementalCompilationComponents
 import org.jetbrains.kotlin.resolve.AnalyzerScriptParameter
+import org.jetbrains.kotlin.types.checker.KotlinTypeChecker
 import org.jetbrains.kotlin.util.PerformanceCounter
 import org.jetbrains.kotlin.utils.KotlinPaths
 import org.jetbrains.kotlin.utils.KotlinPathsFromHomeDir
@@ -59,9 +60,11 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
 
         messageSeverityCollector.report(CompilerMessageSeverity.LOGGING, "Using Kotlin home directory " + paths.getHomePath(), CompilerMessageLocation.NO_LOCATION)
         PerformanceCounter.setTimeCounterEnabled(arguments.reportPerf);
+        KotlinTypeChecker.setCacheStatisticsEnabled(arguments.reportPerf)
 
         val configuration = CompilerConfiguration()
         configuration.put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, messageSeverityCollector)
+        configuration.put(CLIConfigurationKeys.SUPPRESS_WARNINGS, arguments.suppressWarnings)
 
         if (IncrementalCompilation.isEnabled()) {
             val incrementalCompilationComponents = services.get(javaClass<IncrementalCompilationComponents>())
@@ -196,6 +199,8 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
                 reportGCTime(environment.configuration)
                 reportCompilationTime(environment.configuration)
                 PerformanceCounter.report { s -> reportPerf(environment.configuration, s) }
+                KotlinTypeChecker.DEFAULT.reportCacheStatistics { s -> reportPerf(environment.configuration, s) }
+                environment.reportJavaClassLookupStatistics { s -> reportPerf(environment.configuration, s) }
             }
             return OK
         }
@@ -23,6 +23,7 @@ import org.jetbrains.kotlin.name.FqName
 import java.util.ArrayList
 import java.util.EnumSet
 import java.util.HashMap
+import java.util.HashSet
 
 public data class JavaRoot(public val file: VirtualFile, public val type: JavaRoot.RootType) {
     public enum class RootType {
@@ -57,6 +58,9 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
         // if this list contains [1, 3, 5] then roots with indices 1, 3 and 5 are known to contain this package, 2 and 4 are known not to (no information about roots 6 or higher)
         // if this list contains maxIndex that means that all roots containing this package are known
         val rootIndices = IntArrayList()
+
+        // lower-cased names of top level classes declared in this package in any root, computed on the first class lookup
+        var topLevelClassNames: Set<String>? = null
     }
 
     // root "Cache" object corresponds to DefaultPackage which exists in every root
@@ -75,6 +79,9 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
     // helps improve several scenarios, LazyJavaResolverContext.findClassInJava being the most important
     private var lastClassSearch: Pair<FindClassRequest, SearchResult>? = null
 
+    // how many class lookups were answered negatively by the per-package class name sets without searching the roots
+    private var classLookups = 0L
+    private var classLookupsFilteredOut = 0L
 
     // findClassGivenDirectory MUST check whether the class with this classId exists in given package
     public fun <T : Any> findClass(
@@ -82,6 +89,12 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
             acceptedRootTypes: Set<JavaRoot.RootType> = JavaRoot.SourceAndBinary,
             findClassGivenDirectory: (VirtualFile, JavaRoot.RootType) -> T?
     ): T? {
+        classLookups++
+        if (!mayContainClass(classId)) {
+            classLookupsFilteredOut++
+            return null
+        }
+
         return search(FindClassRequest(classId, acceptedRootTypes)) { dir, rootType ->
             val found = findClassGivenDirectory(dir, rootType)
             HandleResult(found, continueSearch = found == null)
@@ -98,6 +111,41 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
         }
     }
 
+    public fun reportStatistics(report: (String) -> Unit) {
+        val rate = if (classLookups == 0L) 0 else classLookupsFilteredOut * 100 / classLookups
+        report("Java class name filter: $classLookupsFilteredOut of $classLookups lookups filtered out ($rate%)")
+    }
+
+    // class files and java sources are looked up by the name of the top level class, so a class certainly doesn't exist
+    // if there is no file with this name in any of the package directories
+    private fun mayContainClass(classId: ClassId): Boolean {
+        val packageCache = cachesPath(classId.getPackageFqName().pathSegments().map { it.getIdentifier() }).last()
+        val classNames = packageCache.topLevelClassNames ?: computeTopLevelClassNames(classId.getPackageFqName()).apply {
+            packageCache.topLevelClassNames = this
+        }
+        return topLevelClassNameKey(classId.getRelativeClassName().pathSegments().first().asString()) in classNames
+    }
+
+    private fun computeTopLevelClassNames(packageFqName: FqName): Set<String> {
+        val result = HashSet<String>()
+        traverseDirectoriesInPackage(packageFqName) { dir, rootType ->
+            val extension = when (rootType) {
+                JavaRoot.RootType.BINARY -> "class"
+                JavaRoot.RootType.SOURCE -> "java"
+            }
+            for (child in dir.getChildren()) {
+                if (!child.isDirectory() && child.getExtension() == extension) {
+                    result.add(topLevelClassNameKey(child.getNameWithoutExtension()))
+                }
+            }
+            true
+        }
+        return result
+    }
+
+    // nested classes are stored in files named Outer$Nested.class, and file systems may be case insensitive
+    private fun topLevelClassNameKey(name: String) = name.substringBefore('$').toLowerCase()
+
     private data class HandleResult<T : Any>(val result: T?, val continueSearch: Boolean)
 
     private fun <T : Any> search(
@@ -99,6 +99,7 @@ public class KotlinCoreEnvironment private constructor(
     }
     private val sourceFiles = ArrayList<KtFile>()
     private val javaRoots = ArrayList<JavaRoot>()
+    private val javaDependenciesIndex = JvmDependenciesIndex(javaRoots)
 
     public val configuration: CompilerConfiguration = configuration.copy().let {
         it.setReadOnly(true)
@@ -115,8 +116,7 @@ public class KotlinCoreEnvironment private constructor(
 
         fillClasspath(configuration)
         val fileManager = ServiceManager.getService(project, javaClass<CoreJavaFileManager>())
-        val index = JvmDependenciesIndex(javaRoots)
-        (fileManager as KotlinCliJavaFileManagerImpl).initIndex(index)
+        (fileManager as KotlinCliJavaFileManagerImpl).initIndex(javaDependenciesIndex)
 
         sourceFiles.addAll(CompileEnvironmentUtil.getJetFiles(project, getSourceRootsCheckingForDuplicates(), {
             message ->
@@ -130,7 +130,7 @@ public class KotlinCoreEnvironment private constructor(
 
         JetScriptDefinitionProvider.getInstance(project).addScriptDefinitions(configuration.getList(CommonConfigurationKeys.SCRIPT_DEFINITIONS_KEY))
 
-        project.registerService(javaClass<JvmVirtualFileFinderFactory>(), JvmCliVirtualFileFinderFactory(index))
+        project.registerService(javaClass<JvmVirtualFileFinderFactory>(), JvmCliVirtualFileFinderFactory(javaDependenciesIndex))
 
         ExternalDeclarationsProvider.registerExtensionPoint(project)
         ExpressionCodegenExtension.registerExtensionPoint(project)
@@ -221,6 +221,8 @@ public class KotlinCoreEnvironment private constructor(
 
     public fun getSourceFiles(): List<KtFile> = sourceFiles
 
+    public fun reportJavaClassLookupStatistics(report: (String) -> Unit) = javaDependenciesIndex.reportStatistics(report)
+
     private fun report(severity: CompilerMessageSeverity, message: String) {
         val messageCollector = configuration.get(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY)
                                ?: throw CompileEnvironmentException(message)
@@ -60,7 +60,9 @@ import org.jetbrains.kotlin.psi.KtFile;
 import org.jetbrains.kotlin.resolve.AnalyzerScriptParameter;
 import org.jetbrains.kotlin.resolve.BindingTrace;
 import org.jetbrains.kotlin.resolve.BindingTraceContext;
+import org.jetbrains.kotlin.resolve.DiagnosticReportingSettings;
 import org.jetbrains.kotlin.resolve.ScriptNameUtil;
+import org.jetbrains.kotlin.resolve.WarningsSuppressed;
 import org.jetbrains.kotlin.resolve.jvm.JvmClassName;
 import org.jetbrains.kotlin.resolve.jvm.TopDownAnalyzerFacadeForJVM;
 import org.jetbrains.kotlin.util.PerformanceCounter;
@@ -342,7 +344,10 @@ public class KotlinToJVMBytecodeCompiler {
                                 sharedTrace,
                                 environment.getConfiguration().get(JVMConfigurationKeys.MODULES),
                                 environment.getConfiguration().get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS),
-                                new JvmPackagePartProvider(environment)
+                                new JvmPackagePartProvider(environment),
+                                environment.getConfiguration().get(CLIConfigurationKeys.SUPPRESS_WARNINGS, false)
+                                ? new WarningsSuppressed()
+                                : new DiagnosticReportingSettings()
                         );
                     }
                 }
@@ -99,9 +99,11 @@ public fun createContainerForTopDownAnalyzerForJvm(
         declarationProviderFactory: DeclarationProviderFactory,
         moduleContentScope: GlobalSearchScope,
         lookupTracker: LookupTracker,
-        packagePartProvider: PackagePartProvider
+        packagePartProvider: PackagePartProvider,
+        diagnosticReportingSettings: DiagnosticReportingSettings = DiagnosticReportingSettings()
 ): ContainerForTopDownAnalyzerForJvm = createContainer("TopDownAnalyzerForJvm") {
     useInstance(packagePartProvider)
+    useInstance(diagnosticReportingSettings)
 
     configureModule(moduleContext, JvmPlatform, bindingTrace)
     configureJavaTopDownAnalysis(moduleContentScope, moduleContext.project, lookupTracker)
@@ -41,6 +41,7 @@ import org.jetbrains.kotlin.name.Name;
 import org.jetbrains.kotlin.psi.KtFile;
 import org.jetbrains.kotlin.resolve.BindingContext;
 import org.jetbrains.kotlin.resolve.BindingTrace;
+import org.jetbrains.kotlin.resolve.DiagnosticReportingSettings;
 import org.jetbrains.kotlin.resolve.TopDownAnalysisMode;
 import org.jetbrains.kotlin.resolve.jvm.extensions.AnalysisCompletedHandlerExtension;
 import org.jetbrains.kotlin.resolve.jvm.platform.JvmPlatform;
@@ -62,7 +63,8 @@ public enum TopDownAnalyzerFacadeForJVM {
             @NotNull TopDownAnalysisMode topDownAnalysisMode,
             PackagePartProvider packagePartProvider
     ) {
-        return analyzeFilesWithJavaIntegration(moduleContext, files, trace, topDownAnalysisMode, null, null, packagePartProvider);
+        return analyzeFilesWithJavaIntegration(moduleContext, files, trace, topDownAnalysisMode, null, null, packagePartProvider,
+                                               new DiagnosticReportingSettings());
     }
 
     @NotNull
@@ -73,10 +75,25 @@ public enum TopDownAnalyzerFacadeForJVM {
             @Nullable List<Module> modules,
             @Nullable IncrementalCompilationComponents incrementalCompilationComponents,
             @NotNull PackagePartProvider packagePartProvider
+    ) {
+        return analyzeFilesWithJavaIntegrationWithCustomContext(
+                moduleContext, files, trace, modules, incrementalCompilationComponents, packagePartProvider,
+                new DiagnosticReportingSettings());
+    }
+
+    @NotNull
+    public static AnalysisResult analyzeFilesWithJavaIntegrationWithCustomContext(
+            @NotNull ModuleContext moduleContext,
+            @NotNull Collection<KtFile> files,
+            @NotNull BindingTrace trace,
+            @Nullable List<Module> modules,
+            @Nullable IncrementalCompilationComponents incrementalCompilationComponents,
+            @NotNull PackagePartProvider packagePartProvider,
+            @NotNull DiagnosticReportingSettings diagnosticReportingSettings
     ) {
         return analyzeFilesWithJavaIntegration(
                 moduleContext, files, trace, TopDownAnalysisMode.TopLevelDeclarations, modules, incrementalCompilationComponents,
-                packagePartProvider);
+                packagePartProvider, diagnosticReportingSettings);
     }
 
     @NotNull
@@ -87,7 +104,8 @@ public enum TopDownAnalyzerFacadeForJVM {
             @NotNull TopDownAnalysisMode topDownAnalysisMode,
             @Nullable List<Module> modules,
             @Nullable IncrementalCompilationComponents incrementalCompilationComponents,
-            @NotNull PackagePartProvider packagePartProvider
+            @NotNull PackagePartProvider packagePartProvider,
+            @NotNull DiagnosticReportingSettings diagnosticReportingSettings
     ) {
         Project project = moduleContext.getProject();
         List<KtFile> allFiles = JvmAnalyzerFacade.getAllFilesToAnalyze(project, null, files);
@@ -115,7 +133,8 @@ public enum TopDownAnalyzerFacadeForJVM {
                 providerFactory,
                 GlobalSearchScope.allScope(project),
                 lookupTracker,
-                packagePartProvider
+                packagePartProvider,
+                diagnosticReportingSettings
         );
 
         List<PackageFragmentProvider> additionalProviders = new ArrayList<PackageFragmentProvider>();
@@ -113,6 +113,13 @@ public class JetFlowInformationProvider {
     }
 
     public void checkDeclaration() {
+        checkDeclaration(true);
+    }
+
+    /**
+     * @param reportWarnings if false, the analyses which can only produce warnings (unused variables and expressions) are skipped
+     */
+    public void checkDeclaration(boolean reportWarnings) {
 
         recordInitializedVariables();
 
@@ -120,11 +127,15 @@ public class JetFlowInformationProvider {
 
         markUninitializedVariables();
 
-        markUnusedVariables();
+        if (reportWarnings) {
+            markUnusedVariables();
+        }
 
         markStatements();
 
-        markUnusedExpressions();
+        if (reportWarnings) {
+            markUnusedExpressions();
+        }
 
         markWhenWithoutElse();
     }
@@ -151,13 +151,17 @@ private fun <D> Pseudocode.collectDataFromSubgraph(
         }
         val previousDataValue = edgesMap.get(instruction)
 
-        val incomingEdgesData = HashSet<D>()
+        // merging is idempotent, so it's enough to drop the data shared by several edges by identity
+        // instead of hashing and comparing the whole data
+        val incomingEdgesData = ArrayList<D>(previousInstructions.size())
 
         for (previousInstruction in previousInstructions) {
             val previousData = edgesMap.get(previousInstruction)
             if (previousData != null) {
-                incomingEdgesData.add(updateEdge(
-                        previousInstruction, instruction, previousData.outgoing))
+                val edgeData = updateEdge(previousInstruction, instruction, previousData.outgoing)
+                if (incomingEdgesData.none { it === edgeData }) {
+                    incomingEdgesData.add(edgeData)
+                }
             }
         }
         val mergedData = mergeEdges(instruction, incomingEdgesData)
@@ -64,12 +64,16 @@ public class PseudocodeVariableDataCollector(
 
         // Variables declared in an inner (deeper) scope can't be accessed from an outer scope.
         // Thus they can be filtered out upon leaving the inner scope.
-        return data.filterKeys { variable ->
+        fun isVisible(variable: VariableDescriptor): Boolean {
             val lexicalScope = lexicalScopeVariableInfo.declaredIn[variable]
             // '-1' for variables declared outside this pseudocode
             val depth = lexicalScope?.depth ?: -1
-            depth <= toDepth
+            return depth <= toDepth
         }
+
+        // keep the same map if nothing is filtered out, so that equal data stays shared between instructions
+        if (data.keys.all { isVisible(it) }) return data
+        return data.filterKeys { isVisible(it) }
     }
 
     fun computeLexicalScopeVariableInfo(pseudocode: Pseudocode): LexicalScopeVariableInfo {
@@ -162,6 +162,11 @@ public class PseudocodeVariablesData {
     private static Map<VariableDescriptor, VariableControlFlowState> mergeIncomingEdgesDataForInitializers(
             @NotNull Collection<? extends Map<VariableDescriptor, VariableControlFlowState>> incomingEdgesData
     ) {
+        if (incomingEdgesData.size() == 1) {
+            // states are canonical and maps are never modified after being computed, so the only incoming data can be reused as is
+            return incomingEdgesData.iterator().next();
+        }
+
         Set<VariableDescriptor> variablesInScope = Sets.newHashSet();
         for (Map<VariableDescriptor, VariableControlFlowState> edgeData : incomingEdgesData) {
             variablesInScope.addAll(edgeData.keySet());
@@ -201,7 +206,6 @@ public class PseudocodeVariablesData {
         if (variable == null) {
             return enterInstructionData;
         }
-        Map<VariableDescriptor, VariableControlFlowState> exitInstructionData = Maps.newHashMap(enterInstructionData);
         if (instruction instanceof WriteValueInstruction) {
             // if writing to already initialized object
             if (!PseudocodeUtil.isThisOrNoDispatchReceiver((WriteValueInstruction) instruction, bindingContext)) {
@@ -212,7 +216,7 @@ public class PseudocodeVariablesData {
             VariableControlFlowState initializationAtThisElement =
                     VariableControlFlowState
                             .create(((WriteValueInstruction) instruction).getElement() instanceof KtProperty, enterInitState);
-            exitInstructionData.put(variable, initializationAtThisElement);
+            return withVariableState(enterInstructionData, variable, initializationAtThisElement);
         }
         else { // instruction instanceof VariableDeclarationInstruction
             VariableControlFlowState enterInitState = enterInstructionData.get(variable);
@@ -222,10 +226,24 @@ public class PseudocodeVariablesData {
             if (enterInitState == null || !enterInitState.mayBeInitialized() || !enterInitState.isDeclared) {
                 boolean isInitialized = enterInitState != null && enterInitState.mayBeInitialized();
                 VariableControlFlowState variableDeclarationInfo = VariableControlFlowState.create(isInitialized, true);
-                exitInstructionData.put(variable, variableDeclarationInfo);
+                return withVariableState(enterInstructionData, variable, variableDeclarationInfo);
             }
         }
-        return exitInstructionData;
+        return enterInstructionData;
+    }
+
+    // copies the data only if the state actually changes, so that unchanged data stays shared between instructions
+    @NotNull
+    private static <S> Map<VariableDescriptor, S> withVariableState(
+            @NotNull Map<VariableDescriptor, S> data,
+            @NotNull VariableDescriptor variable,
+            @NotNull S state
+    ) {
+        if (data.get(variable) == state) return data;
+
+        Map<VariableDescriptor, S> result = Maps.newHashMap(data);
+        result.put(variable, state);
+        return result;
     }
 
 // variable use
@@ -242,12 +260,18 @@ public class PseudocodeVariablesData {
                             @NotNull Collection<? extends Map<VariableDescriptor, VariableUseState>> incomingEdgesData
                     ) {
 
-                        Map<VariableDescriptor, VariableUseState> enterResult = Maps.newHashMap();
-                        for (Map<VariableDescriptor, VariableUseState> edgeData : incomingEdgesData) {
-                            for (Map.Entry<VariableDescriptor, VariableUseState> entry : edgeData.entrySet()) {
-                                VariableDescriptor variableDescriptor = entry.getKey();
-                                VariableUseState variableUseState = entry.getValue();
-                                enterResult.put(variableDescriptor, variableUseState.merge(enterResult.get(variableDescriptor)));
+                        Map<VariableDescriptor, VariableUseState> enterResult;
+                        if (incomingEdgesData.size() == 1) {
+                            enterResult = incomingEdgesData.iterator().next();
+                        }
+                        else {
+                            enterResult = Maps.newHashMap();
+                            for (Map<VariableDescriptor, VariableUseState> edgeData : incomingEdgesData) {
+                                for (Map.Entry<VariableDescriptor, VariableUseState> entry : edgeData.entrySet()) {
+                                    VariableDescriptor variableDescriptor = entry.getKey();
+                                    VariableUseState variableUseState = entry.getValue();
+                                    enterResult.put(variableDescriptor, variableUseState.merge(enterResult.get(variableDescriptor)));
+                                }
                             }
                         }
                         VariableDescriptor variableDescriptor = PseudocodeUtil.extractVariableDescriptorIfAny(
@@ -256,9 +280,9 @@ public class PseudocodeVariablesData {
                             (!(instruction instanceof ReadValueInstruction) && !(instruction instanceof WriteValueInstruction))) {
                             return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, enterResult);
                         }
-                        Map<VariableDescriptor, VariableUseState> exitResult = Maps.newHashMap(enterResult);
+                        VariableUseState exitState;
                         if (instruction instanceof ReadValueInstruction) {
-                            exitResult.put(variableDescriptor, VariableUseState.READ);
+                            exitState = VariableUseState.READ;
                         }
                         else { //instruction instanceof WriteValueInstruction
                             VariableUseState variableUseState = enterResult.get(variableDescriptor);
@@ -268,13 +292,13 @@ public class PseudocodeVariablesData {
                             switch (variableUseState) {
                                 case UNUSED:
                                 case ONLY_WRITTEN_NEVER_READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.ONLY_WRITTEN_NEVER_READ);
+                                    exitState = VariableUseState.ONLY_WRITTEN_NEVER_READ;
                                     break;
-                                case WRITTEN_AFTER_READ:
-                                case READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.WRITTEN_AFTER_READ);
+                                default:
+                                    exitState = VariableUseState.WRITTEN_AFTER_READ;
                             }
                         }
+                        Map<VariableDescriptor, VariableUseState> exitResult = withVariableState(enterResult, variableDescriptor, exitState);
                         return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, exitResult);
                     }
                 }
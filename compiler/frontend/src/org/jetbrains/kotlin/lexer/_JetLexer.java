@@ -5,7 +5,7 @@ package org.jetbrains.kotlin.lexer;
 import com.intellij.lexer.FlexLexer;
 import com.intellij.psi.TokenType;
 import com.intellij.psi.tree.IElementType;
-import com.intellij.util.containers.Stack;
+import com.intellij.util.containers.IntStack;
 
 
 /**
@@ -575,37 +575,24 @@ class _JetLexer implements FlexLexer {
   private boolean zzEOFDone;
 
   /* user code: */
-    private static final class State {
-        final int lBraceCount;
-        final int state;
-
-        public State(int state, int lBraceCount) {
-            this.state = state;
-            this.lBraceCount = lBraceCount;
-        }
-
-        @Override
-        public String toString() {
-            return "yystate = " + state + (lBraceCount == 0 ? "" : "lBraceCount = " + lBraceCount);
-        }
-    }
-
-    private final Stack<State> states = new Stack<State>();
+    // Saved (lBraceCount, state) pairs of enclosing states, kept as plain ints so that
+    // entering and leaving strings and templates doesn't allocate
+    private final IntStack states = new IntStack();
     private int lBraceCount;
     
     private int commentStart;
     private int commentDepth;
 
     private void pushState(int state) {
-        states.push(new State(yystate(), lBraceCount));
+        states.push(lBraceCount);
+        states.push(yystate());
         lBraceCount = 0;
         yybegin(state);
     }
 
     private void popState() {
-        State state = states.pop();
-        lBraceCount = state.lBraceCount;
-        yybegin(state.state);
+        yybegin(states.pop());
+        lBraceCount = states.pop();
     }
 
     private IElementType commentStateToTokenType(int state) {
@@ -1085,7 +1072,7 @@ class _JetLexer implements FlexLexer {
           }
         case 155: break;
         case 82: 
-          { int length = yytext().length();
+          { int length = yylength();
                                     if (length <= 3) { // closing """
                                         popState();
                                         return KtTokens.CLOSING_QUOTE;
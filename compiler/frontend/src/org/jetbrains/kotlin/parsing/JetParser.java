@@ -72,4 +72,11 @@ public class JetParser implements PsiParser {
         jetParsing.parseBlockCodeFragment();
         return psiBuilder.getTreeBuilt();
     }
+
+    @NotNull
+    public static ASTNode parseBlockExpression(PsiBuilder psiBuilder, boolean braced) {
+        JetParsing jetParsing = JetParsing.createForTopLevel(new SemanticWhitespaceAwarePsiBuilderImpl(psiBuilder));
+        jetParsing.parseBlockExpression(braced);
+        return psiBuilder.getTreeBuilt();
+    }
 }
@@ -108,6 +108,9 @@ public class JetParserDefinition implements ParserDefinition {
         else if (elementType instanceof KDocElementType) {
             return ((KDocElementType) elementType).createPsi(astNode);
         }
+        else if (elementType == KtNodeTypes.BLOCK) {
+            return KtNodeTypes.BLOCK.createPsi(astNode);
+        }
         else if (elementType == KDocTokens.MARKDOWN_LINK) {
             return new KDocLink(astNode);
         }
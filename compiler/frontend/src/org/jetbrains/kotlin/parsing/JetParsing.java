@@ -1618,6 +1618,31 @@ public class JetParsing extends AbstractJetParsing {
     void parseBlock() {
         PsiBuilder.Marker block = mark();
 
+        parseBlockContents();
+
+        block.done(BLOCK);
+    }
+
+    /*
+     * Reparses a single BLOCK node in isolation, see KtBlockExpressionElementType.
+     * Bodies of function literals have no braces and consist of statements only.
+     */
+    void parseBlockExpression(boolean braced) {
+        PsiBuilder.Marker block = mark();
+
+        if (braced) {
+            parseBlockContents();
+        }
+        else {
+            myExpressionParsing.parseStatements();
+        }
+
+        checkForUnexpectedSymbols();
+
+        block.done(BLOCK);
+    }
+
+    private void parseBlockContents() {
         myBuilder.enableNewlines();
         expect(LBRACE, "Expecting '{' to open a block");
 
@@ -1625,8 +1650,6 @@ public class JetParsing extends AbstractJetParsing {
 
         expect(RBRACE, "Expecting '}'");
         myBuilder.restoreNewlinesState();
-
-        block.done(BLOCK);
     }
 
     /*
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.impl.source.DummyHolder;
+import com.intellij.psi.impl.source.tree.CompositeElement;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.tree.ICompositeElementType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.idea.KotlinLanguage;
+import org.jetbrains.kotlin.lexer.KotlinLexer;
+import org.jetbrains.kotlin.lexer.KtTokens;
+import org.jetbrains.kotlin.parsing.JetParser;
+
+/*
+ * Element type of block expressions. When a file is edited inside a block, the platform asks the innermost reparseable
+ * element whether its new text can be parsed on its own, and if so only this block is relexed and reparsed
+ * instead of the whole file.
+ *
+ * Only braced blocks (bodies of functions, accessors, loops, branches etc.) pass the check. Bodies of function literals
+ * have no braces of their own, so edits in them are handled by reparsing the nearest enclosing braced block.
+ */
+public class KtBlockExpressionElementType extends IReparseableElementType implements ICompositeElementType {
+    public KtBlockExpressionElementType() {
+        super("BLOCK", KotlinLanguage.INSTANCE);
+    }
+
+    // Blocks built by the main parse are ordinary composites, so parsing in the compiler doesn't pay for lazy elements.
+    // Only the chameleons created for reparse are lazy
+    @NotNull
+    @Override
+    public ASTNode createCompositeNode() {
+        return new CompositeElement(this);
+    }
+
+    @Nullable
+    @Override
+    public ASTNode createNode(CharSequence text) {
+        return new LazyParseableElement(this, text);
+    }
+
+    @NotNull
+    public KtBlockExpression createPsi(@NotNull ASTNode node) {
+        assert node.getElementType() == this;
+
+        return new KtBlockExpression(node);
+    }
+
+    @Override
+    public boolean isParsable(CharSequence buffer, Language fileLanguage, Project project) {
+        return fileLanguage == KotlinLanguage.INSTANCE && isSelfContainedBlock(buffer);
+    }
+
+    @Override
+    protected ASTNode doParseContents(@NotNull ASTNode chameleon, @NotNull PsiElement psi) {
+        Project project = psi.getProject();
+        PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(project, chameleon, null, getLanguage(), chameleon.getChars());
+        return JetParser.parseBlockExpression(builder, isBraced(psi)).getFirstChildNode();
+    }
+
+    // On reparse the block being replaced is the context of the holder the new block is parsed in.
+    // A block without braces (a body of a function literal, script or block code fragment) passes isParsable() only if
+    // its whole text is a single braced statement, e.g. a nested lambda, and then it is parsed as statements again
+    private static boolean isBraced(@NotNull PsiElement parent) {
+        if (!(parent instanceof DummyHolder)) return true;
+
+        PsiElement original = parent.getContext();
+        if (!(original instanceof KtBlockExpression)) return true;
+
+        ASTNode firstChild = original.getNode().getFirstChildNode();
+        return firstChild != null && firstChild.getElementType() == KtTokens.LBRACE;
+    }
+
+    /*
+     * Text can be reparsed as a block if it is enclosed in a matching pair of braces
+     * and can't turn into a function literal, i.e. has no parameters list
+     */
+    private static boolean isSelfContainedBlock(@NotNull CharSequence buffer) {
+        Lexer lexer = new KotlinLexer();
+        lexer.start(buffer);
+
+        if (lexer.getTokenType() != KtTokens.LBRACE) return false;
+        lexer.advance();
+
+        IElementType firstToken = skipWhitespacesAndComments(lexer);
+        if (firstToken == KtTokens.COLON) return false;
+        if (firstToken == KtTokens.IDENTIFIER) {
+            lexer.advance();
+            IElementType secondToken = skipWhitespacesAndComments(lexer);
+            if (secondToken == KtTokens.COMMA || secondToken == KtTokens.COLON) return false;
+        }
+
+        int depth = 1;
+        while (true) {
+            IElementType type = lexer.getTokenType();
+            if (type == null) return false;
+
+            if (type == KtTokens.LBRACE) {
+                depth++;
+            }
+            else if (type == KtTokens.RBRACE) {
+                depth--;
+                if (depth == 0) {
+                    lexer.advance();
+                    return lexer.getTokenType() == null;
+                }
+            }
+            else if (type == KtTokens.ARROW && depth == 1) {
+                return false;
+            }
+
+            lexer.advance();
+        }
+    }
+
+    @Nullable
+    private static IElementType skipWhitespacesAndComments(@NotNull Lexer lexer) {
+        while (KtTokens.WHITE_SPACE_OR_COMMENT_BIT_SET.contains(lexer.getTokenType())) {
+            lexer.advance();
+        }
+        return lexer.getTokenType();
+    }
+}
@@ -33,10 +33,16 @@ import static org.jetbrains.kotlin.types.TypeUtils.NO_EXPECTED_TYPE;
 public class ControlFlowAnalyzer {
     @NotNull private final BindingTrace trace;
     @NotNull private final KotlinBuiltIns builtIns;
+    @NotNull private final DiagnosticReportingSettings diagnosticReportingSettings;
 
-    public ControlFlowAnalyzer(@NotNull BindingTrace trace, @NotNull KotlinBuiltIns builtIns) {
+    public ControlFlowAnalyzer(
+            @NotNull BindingTrace trace,
+            @NotNull KotlinBuiltIns builtIns,
+            @NotNull DiagnosticReportingSettings diagnosticReportingSettings
+    ) {
         this.trace = trace;
         this.builtIns = builtIns;
+        this.diagnosticReportingSettings = diagnosticReportingSettings;
     }
 
     public void process(@NotNull BodiesResolveContext c) {
@@ -66,7 +72,7 @@ public class ControlFlowAnalyzer {
 
     private void checkSecondaryConstructor(@NotNull KtSecondaryConstructor constructor) {
         JetFlowInformationProvider flowInformationProvider = new JetFlowInformationProvider(constructor, trace);
-        flowInformationProvider.checkDeclaration();
+        flowInformationProvider.checkDeclaration(diagnosticReportingSettings.getReportWarnings());
         flowInformationProvider.checkFunction(builtIns.getUnitType());
     }
 
@@ -78,7 +84,7 @@ public class ControlFlowAnalyzer {
             flowInformationProvider.checkForLocalClassOrObjectMode();
             return;
         }
-        flowInformationProvider.checkDeclaration();
+        flowInformationProvider.checkDeclaration(diagnosticReportingSettings.getReportWarnings());
     }
 
     private void checkProperty(@NotNull BodiesResolveContext c, KtProperty property, PropertyDescriptor propertyDescriptor) {
@@ -99,7 +105,7 @@ public class ControlFlowAnalyzer {
             flowInformationProvider.checkForLocalClassOrObjectMode();
             return;
         }
-        flowInformationProvider.checkDeclaration();
+        flowInformationProvider.checkDeclaration(diagnosticReportingSettings.getReportWarnings());
         flowInformationProvider.checkFunction(expectedReturnType);
     }
 }
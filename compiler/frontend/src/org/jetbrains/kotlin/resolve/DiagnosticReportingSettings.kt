@@ -0,0 +1,31 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve
+
+/**
+ * Tells the checkers which diagnostics are going to be shown. Checks which can only produce warnings
+ * are skipped when warnings are suppressed, e.g. by the command line compiler with -nowarn.
+ */
+open class DiagnosticReportingSettings {
+    open val reportWarnings: Boolean
+        get() = true
+}
+
+class WarningsSuppressed : DiagnosticReportingSettings() {
+    override val reportWarnings: Boolean
+        get() = false
+}
@@ -17,7 +17,9 @@
 package org.jetbrains.kotlin.resolve.calls.tasks
 
 import com.google.common.collect.Lists
+import org.jetbrains.kotlin.builtins.KotlinBuiltIns
 import org.jetbrains.kotlin.descriptors.*
+import org.jetbrains.kotlin.name.FqNameUnsafe
 import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.progress.ProgressIndicatorAndCompilationCanceledStatus
 import org.jetbrains.kotlin.psi.Call
@@ -47,10 +49,14 @@ import org.jetbrains.kotlin.resolve.validation.InfixValidator
 import org.jetbrains.kotlin.storage.StorageManager
 import org.jetbrains.kotlin.types.ErrorUtils
 import org.jetbrains.kotlin.types.KotlinType
+import org.jetbrains.kotlin.types.TypeUtils
 import org.jetbrains.kotlin.types.checker.KotlinTypeChecker
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingUtils
+import org.jetbrains.kotlin.types.flexibility
+import org.jetbrains.kotlin.types.isFlexible
 import org.jetbrains.kotlin.types.isDynamic
 import org.jetbrains.kotlin.util.OperatorNameConventions
+import java.util.HashSet
 
 public class TaskPrioritizer(
         private val storageManager: StorageManager,
@@ -141,6 +147,37 @@ public class TaskPrioritizer(
             private val context: ResolutionContext<*>
     ) {
         val types: Collection<KotlinType> by lazy { smartCastManager.getSmartCastVariants(value, context) }
+
+        // Fq names of all classes the receiver can be an instance of, or null if the receiver types are not plain class types
+        private val classifierFqNames: Set<FqNameUnsafe>? by lazy { computeClassifierFqNames() }
+
+        /**
+         * Returns false only if the extension receiver of the descriptor is a class that certainly is not
+         * a supertype of any of the receiver types, so the candidate would fail with a receiver type error anyway
+         */
+        fun mayBeExtensionReceiverFor(descriptor: CallableDescriptor): Boolean {
+            val receiverClassifier = descriptor.extensionReceiverParameter?.type?.constructor?.declarationDescriptor
+            if (receiverClassifier !is ClassDescriptor || ErrorUtils.isError(receiverClassifier)) return true
+
+            val fqNames = classifierFqNames ?: return true
+            return DescriptorUtils.getFqName(receiverClassifier) in fqNames
+        }
+
+        private fun computeClassifierFqNames(): Set<FqNameUnsafe>? {
+            val result = HashSet<FqNameUnsafe>()
+            for (type in types) {
+                if (type.isError || type.isDynamic() || KotlinBuiltIns.isNothingOrNullableNothing(type)) return null
+                val bounds = if (type.isFlexible()) type.flexibility().let { listOf(it.lowerBound, it.upperBound) } else listOf(type)
+                for (bound in bounds) {
+                    for (supertype in TypeUtils.getAllSupertypes(bound) + bound) {
+                        val classifier = supertype.constructor.declarationDescriptor
+                        if (classifier !is ClassDescriptor || ErrorUtils.isError(classifier)) return null
+                        result.add(DescriptorUtils.getFqName(classifier))
+                    }
+                }
+            }
+            return result
+        }
     }
 
     private fun <D : CallableDescriptor, F : D> addCandidatesForExplicitReceiver(
@@ -199,18 +236,19 @@ public class TaskPrioritizer(
                 )
             }
             //extensions
-            c.result.addCandidates {
+            val extensions = storageManager.createLazyValue {
                 val extensions = callableDescriptorCollector.getExtensionsByName(
                         c.scope.asKtScope(), c.name, explicitReceiver.types, createLookupLocation(c))
                 val filteredExtensions = if (filter == null) extensions else extensions.filter(filter)
 
-                convertWithImpliedThis(
-                        c.scope,
-                        explicitReceiver.value,
-                        filteredExtensions,
-                        createKind(EXTENSION_RECEIVER, isExplicit),
-                        c.context.call
-                )
+                filteredExtensions.partition { explicitReceiver.mayBeExtensionReceiverFor(it) }
+            }
+            c.result.addCandidates {
+                convertWithImpliedThis(c.scope, explicitReceiver.value, extensions().first, createKind(EXTENSION_RECEIVER, isExplicit), c.context.call)
+            }
+            // extensions to unrelated classes can't succeed, they are resolved only to report errors when nothing else applies
+            c.result.addCandidates {
+                convertWithImpliedThis(c.scope, explicitReceiver.value, extensions().second, createKind(EXTENSION_RECEIVER, isExplicit), c.context.call)
             }
         }
     }
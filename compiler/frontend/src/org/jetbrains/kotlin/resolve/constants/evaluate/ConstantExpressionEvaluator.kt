@@ -237,11 +237,23 @@ private class ConstantExpressionEvaluatorVisitor(
             return recordedCompileTimeConstant
         }
 
+        // The mark is only trusted together with the recorded type it was derived from: a trace committed with a filter
+        // may drop the type (e.g. operands of '==' resolved against 'Any?') while keeping the mark
+        if (trace.get(BindingContext.NOT_COMPILE_TIME_CONSTANT, expression) == true && trace.getType(expression) != null) {
+            return null
+        }
+
         val compileTimeConstant = expression.accept(this, expectedType ?: TypeUtils.NO_EXPECTED_TYPE)
         if (compileTimeConstant != null) {
             trace.record(BindingContext.COMPILE_TIME_VALUE, expression, compileTimeConstant)
             return compileTimeConstant
         }
+
+        // Once the type of an expression is recorded, its calls are resolved and it can't become a constant later.
+        // Remembering that saves walking the same operands again for each enclosing expression, e.g. in long chains of '+'
+        if (trace.getType(expression) != null) {
+            trace.record(BindingContext.NOT_COMPILE_TIME_CONSTANT, expression)
+        }
         return null
     }
 
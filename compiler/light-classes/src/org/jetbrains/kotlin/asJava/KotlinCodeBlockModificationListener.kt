@@ -18,14 +18,17 @@ package org.jetbrains.kotlin.asJava
 
 import com.intellij.openapi.diagnostic.Logger
 import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiComment
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiFileSystemItem
 import com.intellij.psi.PsiInvalidElementAccessException
+import com.intellij.psi.PsiWhiteSpace
 import com.intellij.psi.impl.PsiModificationTrackerImpl
 import com.intellij.psi.impl.PsiTreeChangeEventImpl
 import com.intellij.psi.impl.PsiTreeChangeEventImpl.PsiEventType.*
 import com.intellij.psi.impl.PsiTreeChangePreprocessor
 import com.intellij.psi.util.PsiModificationTracker
+import com.intellij.psi.util.PsiTreeUtil
 import org.jetbrains.kotlin.psi.*
 import org.jetbrains.kotlin.psi.psiUtil.isAncestor
 
@@ -71,6 +74,8 @@ public class KotlinCodeBlockModificationListener(modificationTracker: PsiModific
 
     private fun processChange(parent: PsiElement?, child1: PsiElement?, child2: PsiElement?) {
         try {
+            if (isWhiteSpaceOrCommentChange(parent, child1, child2)) return
+
             if (!isInsideCodeBlock(parent)) {
                 if (parent != null && parent.containingFile is KtFile) {
                     myModificationTracker.incCounter()
@@ -93,6 +98,17 @@ public class KotlinCodeBlockModificationListener(modificationTracker: PsiModific
     companion object {
         private val LOG = Logger.getInstance("#org.jetbrains.kotlin.asJava.KotlinCodeBlockModificationListener")
 
+        // Formatting and comments (including KDoc) can't change any declaration, so they shouldn't drop
+        // resolve caches of the whole project when edited between declarations
+        private fun isWhiteSpaceOrCommentChange(parent: PsiElement?, child1: PsiElement?, child2: PsiElement?): Boolean {
+            if (PsiTreeUtil.getParentOfType(parent, javaClass<PsiComment>(), false) != null) return true
+
+            if (child1 == null && child2 == null) return false
+            return (child1 == null || isWhiteSpaceOrComment(child1)) && (child2 == null || isWhiteSpaceOrComment(child2))
+        }
+
+        private fun isWhiteSpaceOrComment(element: PsiElement) = element is PsiWhiteSpace || element is PsiComment
+
         private fun containsClassesInside(element: PsiElement?): Boolean {
             if (element == null) return false
             if (element is PsiClass) return true
@@ -244,12 +244,21 @@ public class KotlinJavaFileStubProvider<T extends WithFileStubAndExtraDiagnostic
                             }
 
                             @Override
-                            public boolean shouldAnnotateClass(KtClassOrObject classOrObject) {
-                                return shouldGenerateClass(classOrObject);
+                            public boolean shouldAnnotateClass(KtClassOrObject generatedClassOrObject) {
+                                // Local classes are still annotated: private members may have them in their inferred types
+                                return isClassRelevant(generatedClassOrObject);
                             }
 
                             @Override
                             public boolean shouldGenerateClass(KtClassOrObject generatedClassOrObject) {
+                                // Bodies of non-local classes are not resolved for light classes (only signatures are),
+                                // so local classes declared inside them are not generated
+                                if (!classOrObject.isLocal() && generatedClassOrObject.isLocal()) return false;
+
+                                return isClassRelevant(generatedClassOrObject);
+                            }
+
+                            private boolean isClassRelevant(KtClassOrObject generatedClassOrObject) {
                                 // Trivial: generate and analyze class we are interested in.
                                 if (generatedClassOrObject == classOrObject) return true;
 
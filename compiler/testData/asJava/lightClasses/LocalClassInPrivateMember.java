@@ -0,0 +1,8 @@
+public final class LocalClassInPrivateMember {
+    private final LocalClassInPrivateMember$foo$1$L foo() { /* compiled code */ }
+
+    @org.jetbrains.annotations.NotNull
+    public final java.lang.String bar() { /* compiled code */ }
+
+    public LocalClassInPrivateMember() { /* compiled code */ }
+}
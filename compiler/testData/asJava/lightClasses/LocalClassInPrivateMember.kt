@@ -0,0 +1,10 @@
+// LocalClassInPrivateMember
+
+class LocalClassInPrivateMember {
+    private fun foo() = run {
+        class L
+        L()
+    }
+
+    fun bar(): String = "bar"
+}
\ No newline at end of file
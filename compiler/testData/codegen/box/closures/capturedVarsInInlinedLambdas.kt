@@ -0,0 +1,55 @@
+inline fun run2(f: () -> Unit) = f()
+
+fun branchyStore(c: Boolean): Int {
+    var x = 0
+    run2 { x = if (c) 1 else 2 }
+    return x
+}
+
+fun elvisStore(s: String?): Int {
+    var x = 0
+    run2 { x = s?.length ?: -1 }
+    return x
+}
+
+fun whenStore(i: Int): String {
+    var x = ""
+    run2 {
+        x = when (i) {
+            0 -> "zero"
+            1 -> "one"
+            else -> "many"
+        }
+    }
+    return x
+}
+
+fun multiLineStore(a: Int, b: Int): Int {
+    var x = 0
+    run2 {
+        x = a +
+            b
+    }
+    return x
+}
+
+fun increments(n: Int): Long {
+    var i = 0
+    var total = 0L
+    while (i < n) {
+        run2 {
+            total += if (i % 2 == 0) i else -i
+            i++
+        }
+    }
+    return total
+}
+
+fun box(): String {
+    if (branchyStore(true) != 1 || branchyStore(false) != 2) return "fail branchy store"
+    if (elvisStore("abc") != 3 || elvisStore(null) != -1) return "fail elvis store"
+    if (whenStore(0) != "zero" || whenStore(1) != "one" || whenStore(5) != "many") return "fail when store"
+    if (multiLineStore(1, 2) != 3) return "fail multi-line store"
+    if (increments(5) != 2L) return "fail increments"
+    return "OK"
+}
@@ -0,0 +1,18 @@
+fun box(): String {
+    val inc = { x: Int -> x + 1 }
+    val concat = fun(a: String, b: String) = a + b
+
+    val fromLambda = { inc(1) }
+    if (fromLambda() != 2) return "fail 1"
+
+    val fromNestedLambda = { { inc(inc(1)) }() }
+    if (fromNestedLambda() != 3) return "fail 2"
+
+    fun local() = concat("O", "") + { concat("", "K") }()
+    if (local() != "OK") return "fail 3"
+
+    val fromObject = object {
+        fun test() = { concat("O", "K") }()
+    }
+    return fromObject.test()
+}
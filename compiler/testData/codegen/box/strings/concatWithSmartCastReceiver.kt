@@ -0,0 +1,13 @@
+fun plain(x: Any) = if (x is String) x + "a" else ""
+
+fun nested(x: Any, y: Any) = if (x is String && y is String) "<" + (x + y) + ">" + (y + "!") else ""
+
+fun template(x: Any) = if (x is String) "${x + 1}|${"" + x}" else ""
+
+fun box(): String {
+    if (plain("b") != "ba") return "Fail 1: ${plain("b")}"
+    if (plain(1) != "") return "Fail 2: ${plain(1)}"
+    if (nested("x", "y") != "<xy>y!") return "Fail 3: ${nested("x", "y")}"
+    if (template("t") != "t1|t") return "Fail 4: ${template("t")}"
+    return "OK"
+}
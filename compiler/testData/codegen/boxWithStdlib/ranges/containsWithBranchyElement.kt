@@ -0,0 +1,27 @@
+fun elvisInLongRange(y: Long?, a: Long, b: Long) = (y ?: 0L) in a..b
+
+fun ifInIntRange(f: Boolean, i: Int, j: Int, n: Int) = (if (f) i else j) in 0..n
+
+fun whenInCharRange(k: Int, a: Char, b: Char) = (when (k) {
+    0 -> 'x'
+    1 -> 'b'
+    else -> 'z'
+}) in a..b
+
+fun multiLineInLongRange(x: Long, a: Long, b: Long) = (x +
+                                                       1) in a..b
+
+fun elvisInLocalRange(y: Long?, a: Long, b: Long): Boolean {
+    val r = a..b
+    return (y ?:
+            -1L) in r && !r.isEmpty()
+}
+
+fun box(): String {
+    if (!elvisInLongRange(null, -1L, 1L) || elvisInLongRange(null, 1L, 2L) || !elvisInLongRange(5L, 5L, 5L)) return "fail elvis"
+    if (!ifInIntRange(true, 3, 10, 5) || ifInIntRange(false, 3, 10, 5) || ifInIntRange(true, -1, 0, 5)) return "fail if"
+    if (!whenInCharRange(1, 'a', 'c') || whenInCharRange(0, 'a', 'c') || whenInCharRange(1, 'c', 'a')) return "fail when"
+    if (!multiLineInLongRange(1L, 2L, 3L) || multiLineInLongRange(3L, 2L, 3L)) return "fail multi-line"
+    if (!elvisInLocalRange(null, -2L, 0L) || elvisInLocalRange(1L, 2L, 3L) || elvisInLocalRange(null, 0L, -2L)) return "fail local range"
+    return "OK"
+}
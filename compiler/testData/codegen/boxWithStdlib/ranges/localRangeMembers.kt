@@ -0,0 +1,37 @@
+fun intRange(a: Int, b: Int): String {
+    val r = a..b
+    var sum = 0
+    for (i in r) sum += i
+    return "${r.start} ${r.end} ${r.isEmpty()} ${a in r} ${b in r} ${(a - 1) in r} ${(b + 1) in r} $sum"
+}
+
+fun longRange(a: Long, b: Long): String {
+    val r = a..b
+    return "${r.start} ${r.end} ${r.isEmpty()} ${a in r} ${b in r} ${(a - 1) in r} ${(b + 1) in r}"
+}
+
+fun charRange(a: Char, b: Char, c: Char): String {
+    val r = a..b
+    return "${r.start} ${r.end} ${r.isEmpty()} ${c in r}"
+}
+
+fun box(): String {
+    var result = intRange(1, 3)
+    if (result != "1 3 false true true false false 6") return "fail int: $result"
+    result = intRange(5, 1)
+    if (result != "5 1 true false false false false 0") return "fail empty int: $result"
+    result = intRange(2, 2)
+    if (result != "2 2 false true true false false 2") return "fail single int: $result"
+
+    result = longRange(-1L, 10000000000L)
+    if (result != "-1 10000000000 false true true false false") return "fail long: $result"
+    result = longRange(10000000000L, -1L)
+    if (result != "10000000000 -1 true false false false false") return "fail empty long: $result"
+
+    result = charRange('a', 'c', 'b')
+    if (result != "a c false true") return "fail char: $result"
+    result = charRange('c', 'a', 'b')
+    if (result != "c a true false") return "fail empty char: $result"
+
+    return "OK"
+}
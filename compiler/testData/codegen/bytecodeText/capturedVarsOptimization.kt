@@ -0,0 +1,19 @@
+inline fun <T> Array<T>.forEachInline(action: (T) -> Unit) {
+    for (element in this) action(element)
+}
+
+fun sum(array: Array<Int>): Int {
+    var sum = 0
+    var count = 0L
+    var last: Int? = null
+    array.forEachInline {
+        sum += it
+        count++
+        last = it
+    }
+    return sum + count.toInt() + (last ?: 0)
+}
+
+// 0 NEW kotlin/jvm/internal/Ref
+// 0 GETFIELD kotlin/jvm/internal/Ref
+// 0 PUTFIELD kotlin/jvm/internal/Ref
@@ -0,0 +1,17 @@
+inline fun run2(f: () -> Unit) = f()
+
+fun test(c: Boolean, s: String?): Int {
+    var x = 0
+    var y = 0
+    run2 {
+        x = if (c) 1 else 2
+        y = s?.length ?:
+            -1
+        x++
+    }
+    return x + y
+}
+
+// 0 NEW kotlin/jvm/internal/Ref
+// 0 GETFIELD kotlin/jvm/internal/Ref
+// 0 PUTFIELD kotlin/jvm/internal/Ref
@@ -0,0 +1,7 @@
+fun test(): Int {
+    val inc = { x: Int -> x + 1 }
+    return inc(1)
+}
+
+// 2 invoke \(I\)I
+// 0 invoke \(Ljava/lang/Object;\)Ljava/lang/Object;
@@ -0,0 +1,20 @@
+fun inLongRange(x: Long, a: Long, b: Long) = x in a..b
+
+fun inCharRange(c: Char) = c !in 'a'..'z'
+
+fun sumLocalRange(n: Int): Int {
+    val range = 0..n
+    var sum = 0
+    for (i in range) {
+        if (i in range && !range.isEmpty()) sum += i
+    }
+    return sum
+}
+
+// 0 NEW kotlin/LongRange
+// 0 NEW kotlin/CharRange
+// 0 NEW kotlin/IntRange
+// 0 getStart
+// 0 getEnd
+// 0 contains
+// 0 isEmpty
@@ -0,0 +1,14 @@
+const val PREFIX = "["
+
+fun log(level: String, message: String, count: Int) =
+        PREFIX + "$level] " + "message: ${"<$message>"} (" + count + " times)"
+
+fun constant() = "a" + 1 + 'b' + 2L + "${true}"
+
+fun single(s: String) = "$s"
+
+// 1 NEW java/lang/StringBuilder
+// 1 INVOKESPECIAL java/lang/StringBuilder.<init> \(I\)V
+// 7 INVOKEVIRTUAL java/lang/StringBuilder.append
+// 1 LDC "a1b2true"
+// 0 valueOf
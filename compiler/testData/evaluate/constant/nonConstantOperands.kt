@@ -0,0 +1,40 @@
+package test
+
+var x = 1
+var s = "s"
+
+// val prop1: null
+val prop1 = "a" + s + ("b" + "c") + s + "d" + s + ("e" + "f") + s + "g" + s + "h" + s + ("i" + "j") + s + "k" + s
+
+// val prop2: \"abcdefg\"
+val prop2 = "a" + ("b" + "c") + "d" + ("e" + "f") + "g"
+
+// val prop3: null
+val prop3 = x + 1 + (2 * 3) + x + 4 + x + (5 - 6) + x + 7 + x + (8 / 2) + x
+
+// val prop4: 11
+val prop4 = 1 + (2 * 3) + 4
+
+fun overloaded(i: Int, f: () -> Int) = f()
+fun overloaded(s: String, f: () -> Int) = f()
+
+fun foo() {
+    val a = 1
+
+    overloaded(x) {
+        // val prop5: null
+        val prop5 = a + x + (1 + 2) + x
+
+        // val prop6: 4
+        val prop6 = a + (1 + 2)
+
+        prop5 + prop6
+    }
+
+    overloaded(s) {
+        // val prop7: 4
+        val prop7 = a + (1 + 2)
+
+        prop7
+    }
+}
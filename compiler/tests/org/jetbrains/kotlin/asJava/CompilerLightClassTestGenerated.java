@@ -35,6 +35,12 @@ public class CompilerLightClassTestGenerated extends AbstractCompilerLightClassT
         JetTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/asJava/lightClasses"), Pattern.compile("^(.+)\\.kt$"), true);
     }
 
+    @TestMetadata("LocalClassInPrivateMember.kt")
+    public void testLocalClassInPrivateMember() throws Exception {
+        String fileName = JetTestUtils.navigationMetadata("compiler/testData/asJava/lightClasses/LocalClassInPrivateMember.kt");
+        doTest(fileName);
+    }
+
     @TestMetadata("compiler/testData/asJava/lightClasses/delegation")
     @TestDataPath("$PROJECT_ROOT")
     @RunWith(JUnit3RunnerWithInners.class)
@@ -138,6 +138,16 @@ public class KotlinCliJavaFileManagerTest : PsiTestCase() {
         TestCase.assertNull("Should not find class in empty scope", manager.findClass("foo.Test", GlobalSearchScope.EMPTY_SCOPE))
     }
 
+    public fun testClassNameFilter() {
+        val manager = configureManager("package foo;\n\n" + "public class Test {\n" + "public class Inner {}\n" + "}\n", "Test")
+
+        assertCanFind(manager, "foo", "Test")
+        assertCanFind(manager, "foo", "Test.Inner")
+        assertCannotFind(manager, "foo", "Inner")
+        assertCannotFind(manager, "foo", "Other")
+        assertCannotFind(manager, "bar", "Test")
+    }
+
     private fun configureManager(@Language("JAVA") text: String, className: String): KotlinCliJavaFileManagerImpl {
         val root = PsiTestUtil.createTestProjectStructure(myProject, myModule, PlatformTestCase.myFilesToDelete)
         val pkg = root.createChildDirectory(this, "foo")
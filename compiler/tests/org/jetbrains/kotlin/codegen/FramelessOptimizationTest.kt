@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.codegen.optimization.OptimizationMethodVisitor
+import org.jetbrains.org.objectweb.asm.ClassWriter
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.MethodVisitor
+import org.jetbrains.org.objectweb.asm.Opcodes.*
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+
+public class FramelessOptimizationTest : TestCase() {
+    public fun testDeadCodeIsRemovedFromMethodTooLargeForFrames() {
+        val optimized = MethodNode(ACC_PUBLIC or ACC_STATIC, "test", "()I", null, null)
+        generateLargeMethod(OptimizationMethodVisitor(optimized, false, ACC_PUBLIC or ACC_STATIC, "test", "()I", null, null))
+
+        val opcodes = optimized.instructions.toArray().map { it.getOpcode() }
+        assertFalse("Unreachable code should be removed", ICONST_2 in opcodes)
+        assertTrue("Exception handler should be kept", BIPUSH in opcodes)
+
+        val result = loadClass(writeClass(optimized)).getMethod("test").invoke(null)
+        assertEquals(42, result)
+    }
+
+    // Stores to the local 1999 and pads the method with NOPs, so that its estimated frames take more than
+    // the memory limit of OptimizationMethodVisitor and only the frameless transformers are applied
+    private fun generateLargeMethod(mv: MethodVisitor) {
+        val tryStart = Label()
+        val tryEnd = Label()
+        val handler = Label()
+        val afterHandler = Label()
+
+        mv.visitCode()
+        mv.visitTryCatchBlock(tryStart, tryEnd, handler, "java/lang/ArithmeticException")
+
+        mv.visitInsn(ICONST_1)
+        mv.visitVarInsn(ISTORE, LAST_LOCAL)
+
+        // x = x / (x - 1), throws
+        mv.visitLabel(tryStart)
+        mv.visitVarInsn(ILOAD, LAST_LOCAL)
+        mv.visitVarInsn(ILOAD, LAST_LOCAL)
+        mv.visitInsn(ICONST_1)
+        mv.visitInsn(ISUB)
+        mv.visitInsn(IDIV)
+        mv.visitVarInsn(ISTORE, LAST_LOCAL)
+        mv.visitLabel(tryEnd)
+        mv.visitJumpInsn(GOTO, afterHandler)
+
+        // Reachable only through the exception table
+        mv.visitLabel(handler)
+        mv.visitInsn(POP)
+        mv.visitIntInsn(BIPUSH, 42)
+        mv.visitVarInsn(ISTORE, LAST_LOCAL)
+
+        mv.visitLabel(afterHandler)
+        for (i in 1..PADDING_SIZE) {
+            mv.visitInsn(NOP)
+        }
+        mv.visitVarInsn(ILOAD, LAST_LOCAL)
+        mv.visitInsn(IRETURN)
+
+        // Unreachable
+        mv.visitInsn(ICONST_2)
+        mv.visitInsn(IRETURN)
+
+        mv.visitMaxs(-1, -1)
+        mv.visitEnd()
+    }
+
+    private fun writeClass(method: MethodNode): ByteArray {
+        val writer = ClassWriter(ClassWriter.COMPUTE_MAXS)
+        writer.visit(V1_6, ACC_PUBLIC, CLASS_NAME, null, "java/lang/Object", null)
+        method.accept(writer)
+        writer.visitEnd()
+        return writer.toByteArray()
+    }
+
+    private fun loadClass(bytes: ByteArray): Class<*> {
+        val parent = javaClass.getClassLoader()
+        return object : ClassLoader(parent) {
+            override fun findClass(name: String): Class<*> {
+                if (name != CLASS_NAME) throw ClassNotFoundException(name)
+                return defineClass(name, bytes, 0, bytes.size())
+            }
+        }.loadClass(CLASS_NAME)
+    }
+
+    companion object {
+        private val CLASS_NAME = "LargeMethod"
+        private val LAST_LOCAL = 1999
+        private val PADDING_SIZE = 30000
+    }
+}
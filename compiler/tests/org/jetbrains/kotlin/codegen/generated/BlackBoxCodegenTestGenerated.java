@@ -1693,6 +1693,12 @@ public class BlackBoxCodegenTestGenerated extends AbstractBlackBoxCodegenTest {
             doTest(fileName);
         }
 
+        @TestMetadata("capturedVarsInInlinedLambdas.kt")
+        public void testCapturedVarsInInlinedLambdas() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsInInlinedLambdas.kt");
+            doTest(fileName);
+        }
+
         @TestMetadata("closureInsideConstrucor.kt")
         public void testClosureInsideConstrucor() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/closureInsideConstrucor.kt");
@@ -1723,6 +1729,12 @@ public class BlackBoxCodegenTestGenerated extends AbstractBlackBoxCodegenTest {
             doTest(fileName);
         }
 
+        @TestMetadata("directInvokeOfCapturedLocalVal.kt")
+        public void testDirectInvokeOfCapturedLocalVal() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/directInvokeOfCapturedLocalVal.kt");
+            doTest(fileName);
+        }
+
         @TestMetadata("doubleEnclosedLocalVariable.kt")
         public void testDoubleEnclosedLocalVariable() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/doubleEnclosedLocalVariable.kt");
@@ -7210,6 +7222,12 @@ public class BlackBoxCodegenTestGenerated extends AbstractBlackBoxCodegenTest {
             JetTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/codegen/box/strings"), Pattern.compile("^(.+)\\.kt$"), true);
         }
 
+        @TestMetadata("concatWithSmartCastReceiver.kt")
+        public void testConcatWithSmartCastReceiver() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/strings/concatWithSmartCastReceiver.kt");
+            doTest(fileName);
+        }
+
         @TestMetadata("ea35743.kt")
         public void testEa35743() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/codegen/box/strings/ea35743.kt");
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.lexer;
+
+import com.intellij.psi.tree.IElementType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KotlinLexerTest {
+    @Test
+    public void nestedTemplates() {
+        doTest("\"${\"${\"$a\"}\"}\"",
+               "OPEN_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_START ('${')",
+               "OPEN_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_START ('${')",
+               "OPEN_QUOTE ('\"')",
+               "SHORT_TEMPLATE_ENTRY_START ('$')",
+               "IDENTIFIER ('a')",
+               "CLOSING_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_END ('}')",
+               "CLOSING_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_END ('}')",
+               "CLOSING_QUOTE ('\"')");
+    }
+
+    @Test
+    public void bracesAroundNestedTemplate() {
+        doTest("\"${{\"${b}\"}}\"",
+               "OPEN_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_START ('${')",
+               "LBRACE ('{')",
+               "OPEN_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_START ('${')",
+               "IDENTIFIER ('b')",
+               "LONG_TEMPLATE_ENTRY_END ('}')",
+               "CLOSING_QUOTE ('\"')",
+               "RBRACE ('}')",
+               "LONG_TEMPLATE_ENTRY_END ('}')",
+               "CLOSING_QUOTE ('\"')");
+    }
+
+    @Test
+    public void rawStringWithTrailingQuotes() {
+        doTest("\"\"\"a\"\"\"\"",
+               "OPEN_QUOTE ('\"\"\"')",
+               "REGULAR_STRING_PART ('a')",
+               "REGULAR_STRING_PART ('\"')",
+               "CLOSING_QUOTE ('\"\"\"')");
+    }
+
+    @Test
+    public void nestedCommentInTemplate() {
+        doTest("\"${/* /* */ */c}\"",
+               "OPEN_QUOTE ('\"')",
+               "LONG_TEMPLATE_ENTRY_START ('${')",
+               "BLOCK_COMMENT ('/* /* */ */')",
+               "IDENTIFIER ('c')",
+               "LONG_TEMPLATE_ENTRY_END ('}')",
+               "CLOSING_QUOTE ('\"')");
+    }
+
+    private static void doTest(String text, String... expectedTokens) {
+        KotlinLexer lexer = new KotlinLexer();
+        lexer.start(text);
+
+        StringBuilder actual = new StringBuilder();
+        IElementType tokenType;
+        while ((tokenType = lexer.getTokenType()) != null) {
+            actual.append(tokenType).append(" ('").append(lexer.getBufferSequence().subSequence(lexer.getTokenStart(), lexer.getTokenEnd())).append("')\n");
+            lexer.advance();
+        }
+
+        StringBuilder expected = new StringBuilder();
+        for (String token : expectedTokens) {
+            expected.append(token).append("\n");
+        }
+
+        Assert.assertEquals(expected.toString(), actual.toString());
+    }
+}
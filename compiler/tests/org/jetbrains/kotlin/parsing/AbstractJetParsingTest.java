@@ -16,6 +16,7 @@
 
 package org.jetbrains.kotlin.parsing;
 
+import com.intellij.lang.ASTNode;
 import com.intellij.openapi.fileTypes.FileTypeManager;
 import com.intellij.openapi.fileTypes.FileTypeRegistry;
 import com.intellij.openapi.util.Getter;
@@ -23,12 +24,17 @@ import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.util.io.FileUtilRt;
 import com.intellij.psi.PsiErrorElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.impl.source.DummyHolder;
+import com.intellij.psi.impl.source.DummyHolderFactory;
+import com.intellij.psi.impl.source.tree.TreeElement;
 import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.testFramework.ParsingTestCase;
 import com.intellij.util.PathUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.kotlin.KtNodeTypes;
+import org.jetbrains.kotlin.idea.KotlinLanguage;
 import org.jetbrains.kotlin.psi.*;
 import org.jetbrains.kotlin.test.JetTestUtils;
 
@@ -112,6 +118,26 @@ public abstract class AbstractJetParsingTest extends ParsingTestCase {
         });
 
         doCheckResult(myFullDataPath, filePath.replaceAll("\\.kts?", ".txt"), toParseTreeText(myFile, false, false).trim());
+
+        checkBlocksReparse(myFile);
+    }
+
+    // Every block that can be reparsed on its own should produce exactly the same tree as the full parse
+    private static void checkBlocksReparse(@NotNull PsiFile file) {
+        for (KtBlockExpression block : PsiTreeUtil.findChildrenOfType(file, KtBlockExpression.class)) {
+            String text = block.getText();
+            if (!KtNodeTypes.BLOCK.isParsable(text, KotlinLanguage.INSTANCE, file.getProject())) continue;
+
+            ASTNode chameleon = KtNodeTypes.BLOCK.createNode(text);
+            assertNotNull(chameleon);
+
+            DummyHolder holder = DummyHolderFactory.createHolder(file.getManager(), block);
+            holder.getTreeElement().rawAddChildren((TreeElement) chameleon);
+
+            assertEquals("Reparsed block differs from the original one: " + text,
+                         DebugUtil.treeToString(block.getNode(), false),
+                         DebugUtil.treeToString(chameleon, false));
+        }
     }
 
     private PsiFile createFile(@NotNull String filePath, @NotNull IElementType fileType) throws Exception {
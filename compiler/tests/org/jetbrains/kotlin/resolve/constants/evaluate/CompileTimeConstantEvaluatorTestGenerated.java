@@ -115,6 +115,12 @@ public class CompileTimeConstantEvaluatorTestGenerated extends AbstractCompileTi
             doConstantTest(fileName);
         }
 
+        @TestMetadata("nonConstantOperands.kt")
+        public void testNonConstantOperands() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/evaluate/constant/nonConstantOperands.kt");
+            doConstantTest(fileName);
+        }
+
         @TestMetadata("nonFinalProperty.kt")
         public void testNonFinalProperty() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/evaluate/constant/nonFinalProperty.kt");
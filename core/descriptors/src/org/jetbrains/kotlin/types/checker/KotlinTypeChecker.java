@@ -16,7 +16,10 @@
 
 package org.jetbrains.kotlin.types.checker;
 
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.types.KotlinType;
 import org.jetbrains.kotlin.types.TypeConstructor;
 
@@ -26,7 +29,7 @@ public class KotlinTypeChecker {
         boolean equals(@NotNull TypeConstructor a, @NotNull TypeConstructor b);
     }
 
-    public static final KotlinTypeChecker DEFAULT = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl()));
+    public static final KotlinTypeChecker DEFAULT = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl()), true);
 
     public static final KotlinTypeChecker ERROR_TYPES_ARE_EQUAL_TO_ANYTHING = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl() {
         @Override
@@ -54,15 +57,48 @@ public class KotlinTypeChecker {
 
     private final TypeCheckingProcedure procedure;
 
+    // Results are only cached for checkers whose procedure has no side effects and doesn't depend on outer state
+    @Nullable private final TypeCheckingResultCache subtypingCache;
+    @Nullable private final TypeCheckingResultCache equalityCache;
+
     private KotlinTypeChecker(@NotNull TypeCheckingProcedure procedure) {
+        this(procedure, false);
+    }
+
+    private KotlinTypeChecker(@NotNull TypeCheckingProcedure procedure, boolean cacheResults) {
         this.procedure = procedure;
+        this.subtypingCache = cacheResults ? new TypeCheckingResultCache("Subtyping cache") : null;
+        this.equalityCache = cacheResults ? new TypeCheckingResultCache("Type equality cache") : null;
     }
 
     public boolean isSubtypeOf(@NotNull KotlinType subtype, @NotNull KotlinType supertype) {
-        return procedure.isSubtypeOf(subtype, supertype);
+        if (subtypingCache == null || subtype == supertype) return procedure.isSubtypeOf(subtype, supertype);
+
+        Boolean cached = subtypingCache.get(subtype, supertype);
+        if (cached != null) return cached;
+
+        boolean result = procedure.isSubtypeOf(subtype, supertype);
+        subtypingCache.put(subtype, supertype, result);
+        return result;
     }
 
     public boolean equalTypes(@NotNull KotlinType a, @NotNull KotlinType b) {
-        return procedure.equalTypes(a, b);
+        if (equalityCache == null || a == b) return procedure.equalTypes(a, b);
+
+        Boolean cached = equalityCache.get(a, b);
+        if (cached != null) return cached;
+
+        boolean result = procedure.equalTypes(a, b);
+        equalityCache.put(a, b, result);
+        return result;
+    }
+
+    public static void setCacheStatisticsEnabled(boolean enabled) {
+        TypeCheckingResultCache.setStatisticsEnabled(enabled);
+    }
+
+    public void reportCacheStatistics(@NotNull Function1<String, Unit> consumer) {
+        if (subtypingCache != null) consumer.invoke(subtypingCache.getStatistics());
+        if (equalityCache != null) consumer.invoke(equalityCache.getStatistics());
     }
 }
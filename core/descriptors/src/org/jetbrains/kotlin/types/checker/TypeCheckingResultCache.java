@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.types.checker;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.types.FlexibleTypesKt;
+import org.jetbrains.kotlin.types.KotlinType;
+import org.jetbrains.kotlin.types.LazyType;
+import org.jetbrains.kotlin.types.TypeProjection;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded direct-mapped cache of type checking results keyed by identities of both types.
+ * Only types whose structure can't change are cached, i.e. no lazy, error or flexible types on any level.
+ * Each thread has its own table and types are referenced weakly, so finished analysis sessions are not retained.
+ * Hits and misses are only counted when statistics are enabled, to keep shared counters off the lookup path.
+ */
+class TypeCheckingResultCache {
+    private static final int SIZE = 1 << 10;
+
+    private static boolean statisticsEnabled = false;
+
+    private static final class Entry {
+        private final WeakReference<KotlinType> first;
+        private final WeakReference<KotlinType> second;
+        private final boolean result;
+
+        private Entry(@NotNull KotlinType first, @NotNull KotlinType second, boolean result) {
+            this.first = new WeakReference<KotlinType>(first);
+            this.second = new WeakReference<KotlinType>(second);
+            this.result = result;
+        }
+    }
+
+    private final String name;
+
+    private final ThreadLocal<Entry[]> entries = new ThreadLocal<Entry[]>() {
+        @Override
+        protected Entry[] initialValue() {
+            return new Entry[SIZE];
+        }
+    };
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    TypeCheckingResultCache(@NotNull String name) {
+        this.name = name;
+    }
+
+    static void setStatisticsEnabled(boolean enabled) {
+        statisticsEnabled = enabled;
+    }
+
+    @Nullable
+    Boolean get(@NotNull KotlinType first, @NotNull KotlinType second) {
+        Entry entry = entries.get()[index(first, second)];
+        if (entry != null && entry.first.get() == first && entry.second.get() == second) {
+            if (statisticsEnabled) hits.incrementAndGet();
+            return entry.result;
+        }
+        if (statisticsEnabled) misses.incrementAndGet();
+        return null;
+    }
+
+    void put(@NotNull KotlinType first, @NotNull KotlinType second, boolean result) {
+        if (!isCacheable(first) || !isCacheable(second)) return;
+
+        entries.get()[index(first, second)] = new Entry(first, second, result);
+    }
+
+    @NotNull
+    String getStatistics() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        long rate = total == 0 ? 0 : hitCount * 100 / total;
+        return name + ": " + hitCount + " hits of " + total + " lookups (" + rate + "%)";
+    }
+
+    private static int index(@NotNull KotlinType first, @NotNull KotlinType second) {
+        return (System.identityHashCode(first) * 31 + System.identityHashCode(second)) & (SIZE - 1);
+    }
+
+    private static boolean isCacheable(@NotNull KotlinType type) {
+        if (type instanceof LazyType || type.isError() || FlexibleTypesKt.isFlexible(type)) return false;
+
+        for (TypeProjection argument : type.getArguments()) {
+            if (!argument.isStarProjection() && !isCacheable(argument.getType())) return false;
+        }
+        return true;
+    }
+}
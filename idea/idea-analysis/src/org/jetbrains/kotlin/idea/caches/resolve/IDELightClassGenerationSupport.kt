@@ -41,7 +41,9 @@ import org.jetbrains.kotlin.load.kotlin.PackageClassUtils
 import org.jetbrains.kotlin.load.kotlin.PackagePartClassUtils
 import org.jetbrains.kotlin.name.FqName
 import org.jetbrains.kotlin.psi.*
+import org.jetbrains.kotlin.psi.psiUtil.collectDescendantsOfType
 import org.jetbrains.kotlin.psi.psiUtil.getElementTextWithContext
+import org.jetbrains.kotlin.psi.psiUtil.parentsWithSelf
 import org.jetbrains.kotlin.resolve.BindingContext
 import org.jetbrains.kotlin.resolve.lazy.BodyResolveMode
 import org.jetbrains.kotlin.resolve.lazy.ForceResolveUtil
@@ -72,26 +74,40 @@ public class IDELightClassGenerationSupport(private val project: Project) : Ligh
     override fun getContextForClassOrObject(classOrObject: KtClassOrObject): LightClassConstructionContext {
         val resolutionFacade = classOrObject.getResolutionFacade()
 
+        if (!classOrObject.isLocal() && !hasDelegationByExpression(classOrObject)) {
+            // Light classes only expose declarations and codegen never enters bodies in LIGHT_CLASSES mode,
+            // so resolving signatures of the lazy descriptors is enough: bodies are only touched to infer omitted types
+            val resolveSession = resolutionFacade.getFrontendService(ResolveSession::class.java)
+            ForceResolveUtil.forceResolveAllContents(resolveSession.resolveToDescriptor(classOrObject))
+            return LightClassConstructionContext(resolveSession.bindingContext, resolveSession.moduleDescriptor)
+        }
+
         val moduleDescriptor = resolutionFacade.moduleDescriptor
         val bindingContext = resolutionFacade.analyze(classOrObject, BodyResolveMode.FULL)
-        if (classOrObject.isLocal()) {
-            val descriptor = bindingContext.get(BindingContext.CLASS, classOrObject)
-
 
-            if (descriptor == null) {
-                LOG.warn("No class descriptor in context for class: " + classOrObject.getElementTextWithContext())
-                return LightClassConstructionContext(bindingContext, moduleDescriptor)
-            }
+        if (!classOrObject.isLocal()) {
+            ForceResolveUtil.forceResolveAllContents(resolutionFacade.resolveToDescriptor(classOrObject))
+            return LightClassConstructionContext(bindingContext, moduleDescriptor)
+        }
 
-            ForceResolveUtil.forceResolveAllContents<ClassDescriptor>(descriptor)
+        val descriptor = bindingContext.get(BindingContext.CLASS, classOrObject)
 
+        if (descriptor == null) {
+            LOG.warn("No class descriptor in context for class: " + classOrObject.getElementTextWithContext())
             return LightClassConstructionContext(bindingContext, moduleDescriptor)
         }
 
-        ForceResolveUtil.forceResolveAllContents(resolutionFacade.resolveToDescriptor(classOrObject))
+        ForceResolveUtil.forceResolveAllContents<ClassDescriptor>(descriptor)
+
         return LightClassConstructionContext(bindingContext, moduleDescriptor)
     }
 
+    // types of delegate expressions are needed for delegate fields and are only resolved together with the class body
+    private fun hasDelegationByExpression(classOrObject: KtClassOrObject): Boolean {
+        val outermostClass = classOrObject.parentsWithSelf.filterIsInstance<KtClassOrObject>().last()
+        return outermostClass.collectDescendantsOfType<KtDelegatorByExpressionSpecifier>().isNotEmpty()
+    }
+
     override fun getContextForFacade(files: Collection<KtFile>): LightClassConstructionContext {
         assert(!files.isEmpty()) { "No files in facade" }
 
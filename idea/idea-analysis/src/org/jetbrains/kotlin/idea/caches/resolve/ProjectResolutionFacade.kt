@@ -19,7 +19,6 @@ package org.jetbrains.kotlin.idea.caches.resolve
 import com.intellij.openapi.project.Project
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.CachedValueProvider
-import com.intellij.psi.util.CachedValuesManager
 import com.intellij.psi.util.PsiModificationTracker
 import com.intellij.util.containers.SLRUCache
 import org.jetbrains.kotlin.analyzer.AnalysisResult
@@ -36,6 +35,7 @@ import org.jetbrains.kotlin.resolve.BindingContext
 import org.jetbrains.kotlin.resolve.CompositeBindingContext
 import org.jetbrains.kotlin.resolve.lazy.BodyResolveMode
 import org.jetbrains.kotlin.resolve.lazy.ResolveSession
+import java.lang.ref.SoftReference
 
 internal class ProjectResolutionFacade(
         val project: Project,
@@ -53,27 +53,19 @@ internal class ProjectResolutionFacade(
         return moduleResolverProvider.resolverForProject.descriptorForModule(ideaModuleInfo)
     }
 
-    private val analysisResults = CachedValuesManager.getManager(project).createCachedValue(
+    private val analysisResults = SynchronizedCachedValue(
+            project,
             {
                 val resolverProvider = moduleResolverProvider
-                val results = object : SLRUCache<KtFile, PerFileAnalysisCache>(2, 3) {
-                    override fun createValue(file: KtFile?): PerFileAnalysisCache {
-                        return PerFileAnalysisCache(file!!, resolverProvider.resolverForProject.resolverForModule(file.getModuleInfo()).componentProvider)
-                    }
-                }
-                CachedValueProvider.Result(results, PsiModificationTracker.MODIFICATION_COUNT, resolverProvider.exceptionTracker)
-            }, false)
+                CachedValueProvider.Result(PerFileAnalysisCaches(resolverProvider), PsiModificationTracker.MODIFICATION_COUNT, resolverProvider.exceptionTracker)
+            },
+            trackValue = false)
 
     fun getAnalysisResultsForElements(elements: Collection<KtElement>): AnalysisResult {
         assert(elements.isNotEmpty()) { "elements collection should not be empty" }
-        val slruCache = synchronized(analysisResults) {
-            analysisResults.getValue()!!
-        }
+        val perFileCaches = analysisResults.getValue()
         val results = elements.map {
-            val perFileCache = synchronized(slruCache) {
-                slruCache[it.getContainingJetFile()]
-            }
-            perFileCache.getAnalysisResults(it)
+            perFileCaches.getCache(it.getContainingJetFile()).getAnalysisResults(it)
         }
         val withError = results.firstOrNull { it.isError() }
         val bindingContext = CompositeBindingContext.create(results.map { it.bindingContext })
@@ -85,6 +77,38 @@ internal class ProjectResolutionFacade(
     }
 }
 
+// Keeps analysis of recently used files, so switching between files or inspecting a package doesn't redo it.
+// The number of files is bounded, and soft values let memory pressure drop analysis even before that
+private class PerFileAnalysisCaches(private val resolverProvider: ModuleResolverProvider) {
+    private val caches = object : SLRUCache<KtFile, SoftReference<PerFileAnalysisCache>>(PROTECTED_SIZE, PROBATIONAL_SIZE) {
+        override fun createValue(file: KtFile?): SoftReference<PerFileAnalysisCache> = SoftReference(createCache(file!!))
+    }
+
+    fun getCache(file: KtFile): PerFileAnalysisCache {
+        // non-physical files (completion copies, code fragments) are kept too: they are analyzed repeatedly
+        // while in use, and the facade for synthetic files they belong to is itself cached only for a short time.
+        // Analysis itself is done outside of the lock, by the returned cache
+        synchronized(caches) {
+            val cached = caches.getIfCached(file)?.get()
+            if (cached != null) return cached
+
+            val cache = createCache(file)
+            caches.put(file, SoftReference(cache))
+            return cache
+        }
+    }
+
+    private fun createCache(file: KtFile): PerFileAnalysisCache {
+        val componentProvider = resolverProvider.resolverForProject.resolverForModule(file.getModuleInfo()).componentProvider
+        return PerFileAnalysisCache(file, componentProvider)
+    }
+
+    companion object {
+        private val PROTECTED_SIZE = 10
+        private val PROBATIONAL_SIZE = 20
+    }
+}
+
 internal class ResolutionFacadeImpl(
         private val projectFacade: ProjectResolutionFacade,
         private val moduleInfo: IdeaModuleInfo
@@ -39,12 +39,25 @@ class DirectoryBasedClassFinder(
         val packageDirectory: VirtualFile,
         val directoryPackageFqName: FqName
 ) : KotlinClassFinder {
+    // Building stubs or text for one file looks up the same classes over and over (nested classes, annotations of members),
+    // while KotlinBinaryClassCache only remembers the last file read on the thread, so lookups are cached for the finder's lifetime
+    private val foundClasses = hashMapOf<ClassId, KotlinJvmBinaryClass?>()
+
     override fun findKotlinClass(javaClass: JavaClass) = findKotlinClass(javaClass.classId)
 
     override fun findKotlinClass(classId: ClassId): KotlinJvmBinaryClass? {
         if (classId.getPackageFqName() != directoryPackageFqName) {
             return null
         }
+        if (foundClasses.containsKey(classId)) {
+            return foundClasses[classId]
+        }
+        val binaryClass = doFindKotlinClass(classId)
+        foundClasses[classId] = binaryClass
+        return binaryClass
+    }
+
+    private fun doFindKotlinClass(classId: ClassId): KotlinJvmBinaryClass? {
         val targetName = classId.getRelativeClassName().pathSegments().joinToString("$", postfix = ".class")
         val virtualFile = packageDirectory.findChild(targetName)
         if (virtualFile != null && isKotlinWithCompatibleAbiVersion(virtualFile)) {
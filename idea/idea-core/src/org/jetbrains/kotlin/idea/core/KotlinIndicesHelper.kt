@@ -38,7 +38,6 @@ import org.jetbrains.kotlin.resolve.BindingContext
 import org.jetbrains.kotlin.resolve.isAnnotatedAsHidden
 import org.jetbrains.kotlin.resolve.lazy.ResolveSessionUtils
 import org.jetbrains.kotlin.types.KotlinType
-import org.jetbrains.kotlin.utils.addIfNotNull
 import org.jetbrains.kotlin.utils.addToStdlib.singletonOrEmptyList
 import java.util.*
 
@@ -99,7 +98,8 @@ public class KotlinIndicesHelper(
         if (receiverTypes == null || receiverTypes.isEmpty()) return emptyList()
 
         val receiverTypeNames = HashSet<String>()
-        receiverTypes.forEach { receiverTypeNames.addTypeNames(it) }
+        val visitedClassifiers = HashSet<ClassifierDescriptor>()
+        receiverTypes.forEach { receiverTypeNames.addTypeNames(it, visitedClassifiers) }
 
         val index = JetTopLevelExtensionsByReceiverTypeIndex.INSTANCE
 
@@ -114,10 +114,15 @@ public class KotlinIndicesHelper(
         return findSuitableExtensions(declarations, receiverTypes, callTypeAndReceiver.callType)
     }
 
-    private fun MutableCollection<String>.addTypeNames(type: KotlinType) {
+    private fun MutableCollection<String>.addTypeNames(type: KotlinType, visitedClassifiers: MutableSet<ClassifierDescriptor>) {
         val constructor = type.getConstructor()
-        addIfNotNull(constructor.getDeclarationDescriptor()?.getName()?.asString())
-        constructor.getSupertypes().forEach { addTypeNames(it) }
+        val classifier = constructor.getDeclarationDescriptor()
+        if (classifier != null) {
+            // supertypes of the same classifier are reached many times through diamonds and several receivers
+            if (!visitedClassifiers.add(classifier)) return
+            add(classifier.getName().asString())
+        }
+        constructor.getSupertypes().forEach { addTypeNames(it, visitedClassifiers) }
     }
 
     /**
@@ -129,6 +134,7 @@ public class KotlinIndicesHelper(
             callType: CallType<*>
     ): Collection<CallableDescriptor> {
         val result = LinkedHashSet<CallableDescriptor>()
+        val resolvedCompiledFqNames = HashSet<FqName>()
 
         fun processDescriptor(descriptor: CallableDescriptor) {
             if (descriptorFilter(descriptor)) {
@@ -139,7 +145,10 @@ public class KotlinIndicesHelper(
         for (declaration in declarations) {
             if (declaration.getContainingJetFile().isCompiled()) {
                 //TODO: it's temporary while resolveToDescriptor does not work for compiled declarations
-                for (descriptor in resolutionFacade.resolveImportReference(moduleDescriptor, declaration.getFqName()!!)) {
+                val fqName = declaration.getFqName()!!
+                // all overloads are resolved by one import reference, no need to resolve it once per declaration
+                if (!resolvedCompiledFqNames.add(fqName)) continue
+                for (descriptor in resolutionFacade.resolveImportReference(moduleDescriptor, fqName)) {
                     if (descriptor is CallableDescriptor && descriptor.getExtensionReceiverParameter() != null) {
                         processDescriptor(descriptor)
                     }
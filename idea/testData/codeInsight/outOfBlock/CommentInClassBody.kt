@@ -0,0 +1,6 @@
+// FALSE
+
+class Test {
+    // some <caret>comment
+    fun foo(): Int = 1
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+// FALSE
+
+/**
+ * Some <caret>doc
+ */
+fun foo(): Int = 1
\ No newline at end of file
@@ -0,0 +1,8 @@
+// FALSE
+// TYPE: \n
+
+class Test {
+    fun foo() {}
+<caret>
+    fun bar() {}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.idea
+
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFileFactory
+import com.intellij.psi.impl.DebugUtil
+import org.jetbrains.kotlin.idea.test.JetLightCodeInsightFixtureTestCase
+import org.jetbrains.kotlin.idea.test.JetLightProjectDescriptor
+import org.jetbrains.kotlin.psi.*
+
+public class BlockReparseTest : JetLightCodeInsightFixtureTestCase() {
+    override fun getProjectDescriptor() = JetLightProjectDescriptor.INSTANCE
+
+    public fun testTypeInFunctionBody() {
+        doTest(
+"""
+fun a() {
+    val x = 1<caret>
+}
+
+fun b() {
+    a()
+}
+""", " + 2")
+    }
+
+    public fun testTypeInLambdaBody() {
+        doTest(
+"""
+fun a() {
+    listOf(1).map { it<caret> }
+}
+
+fun b() {
+    a()
+}
+""", " * 2")
+    }
+
+    public fun testTypeInNestedBlock() {
+        doTest(
+"""
+fun a(p: Boolean) {
+    if (p) {
+        <caret>
+    }
+}
+
+fun b() {
+    a(true)
+}
+""", "b()")
+    }
+
+    public fun testTypeLambdaParameterIntoBody() {
+        doTest(
+"""
+fun a() = run {<caret> 1 }
+
+fun b() {
+    a()
+}
+""", " x ->")
+    }
+
+    // Edits inside the body of "a" must not rebuild the rest of the file, and the result must be the same as after a full parse
+    private fun doTest(text: String, textToType: String) {
+        val file = myFixture.configureByText("Test.kt", text.trimStart()) as KtFile
+        val functionA = file.declarations[0] as KtNamedFunction
+        val functionB = file.declarations[1] as KtNamedFunction
+        val bodyB = functionB.bodyExpression!!
+
+        myFixture.type(textToType)
+        PsiDocumentManager.getInstance(project).commitAllDocuments()
+
+        assertTrue(functionA.isValid)
+        assertTrue(bodyB.isValid)
+        assertSame(functionA, file.declarations[0])
+        assertSame(bodyB, (file.declarations[1] as KtNamedFunction).bodyExpression)
+
+        val fullyParsed = PsiFileFactory.getInstance(project).createFileFromText("Test.kt", KotlinFileType.INSTANCE, file.text)
+        assertEquals(DebugUtil.psiToString(fullyParsed, false), DebugUtil.psiToString(file, false))
+    }
+}
@@ -18,6 +18,7 @@ package org.jetbrains.kotlin.idea
 
 import com.intellij.psi.PsiDocumentManager
 import org.jetbrains.kotlin.idea.caches.resolve.analyze
+import org.jetbrains.kotlin.idea.caches.resolve.analyzeFullyAndGetResult
 import org.jetbrains.kotlin.idea.test.JetLightCodeInsightFixtureTestCase
 import org.jetbrains.kotlin.idea.test.JetLightProjectDescriptor
 import org.jetbrains.kotlin.idea.util.application.executeWriteCommand
@@ -137,6 +138,21 @@ class C(param1: String = "", param2: Int = 0) {
         }
     }
 
+    public fun testCompletionCopyFullAnalysisCaching() {
+        doTest {
+            // completion works on a non-physical copy of the file and analyzes it fully several times
+            val copy = file.copy() as KtFile
+            val copyData = extractData(copy)
+
+            val context1 = copyData.statements[0].analyzeFullyAndGetResult().bindingContext
+            val context2 = copyData.statements[1].analyzeFullyAndGetResult().bindingContext
+            assert(context1 === context2)
+
+            val context3 = copyData.statements[0].analyzeFullyAndGetResult().bindingContext
+            assert(context3 === context1)
+        }
+    }
+
     public fun testResolveSurvivesTypingInCodeBlock() {
         doTest {
             val statement = statements[0]
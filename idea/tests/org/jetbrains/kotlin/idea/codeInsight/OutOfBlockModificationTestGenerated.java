@@ -47,6 +47,12 @@ public class OutOfBlockModificationTestGenerated extends AbstractOutOfBlockModif
         doTest(fileName);
     }
 
+    @TestMetadata("CommentInClassBody.kt")
+    public void testCommentInClassBody() throws Exception {
+        String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/CommentInClassBody.kt");
+        doTest(fileName);
+    }
+
     @TestMetadata("FunInFun.kt")
     public void testFunInFun() throws Exception {
         String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/FunInFun.kt");
@@ -185,6 +191,12 @@ public class OutOfBlockModificationTestGenerated extends AbstractOutOfBlockModif
         doTest(fileName);
     }
 
+    @TestMetadata("KDocOnFunction.kt")
+    public void testKDocOnFunction() throws Exception {
+        String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/KDocOnFunction.kt");
+        doTest(fileName);
+    }
+
     @TestMetadata("Object_FunNoType_Block.kt")
     public void testObject_FunNoType_Block() throws Exception {
         String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/Object_FunNoType_Block.kt");
@@ -226,4 +238,10 @@ public class OutOfBlockModificationTestGenerated extends AbstractOutOfBlockModif
         String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/PropertyWithType_Initializer_String.kt");
         doTest(fileName);
     }
+
+    @TestMetadata("WhiteSpaceBetweenMembers.kt")
+    public void testWhiteSpaceBetweenMembers() throws Exception {
+        String fileName = JetTestUtils.navigationMetadata("idea/testData/codeInsight/outOfBlock/WhiteSpaceBetweenMembers.kt");
+        doTest(fileName);
+    }
 }
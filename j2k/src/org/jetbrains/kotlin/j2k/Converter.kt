@@ -43,7 +43,7 @@ class Converter private constructor(
 ) {
 
     // state which is shared between all converter's based on this one
-    private class CommonState(val usageProcessingsCollector: (UsageProcessing) -> Unit) {
+    private class CommonState(val usageProcessingsCollector: (UsageProcessing) -> Unit, val referenceSearcher: ReferenceSearcher) {
         val deferredElements = ArrayList<DeferredElement<*>>()
         val postUnfoldActions = ArrayList<() -> Unit>()
     }
@@ -57,15 +57,16 @@ class Converter private constructor(
 
     public val specialContext: PsiElement? = personalState.specialContext
 
-    public val referenceSearcher: ReferenceSearcher = CachingReferenceSearcher(services.referenceSearcher)
+    public val referenceSearcher: ReferenceSearcher = commonState.referenceSearcher
 
     public val propertyDetectionCache = PropertyDetectionCache(this)
 
     companion object {
         public fun create(elementToConvert: PsiElement, settings: ConverterSettings, services: JavaToKotlinConverterServices,
-                          inConversionScope: (PsiElement) -> Boolean, usageProcessingsCollector: (UsageProcessing) -> Unit): Converter {
+                          inConversionScope: (PsiElement) -> Boolean, usageProcessingsCollector: (UsageProcessing) -> Unit,
+                          referenceSearcher: ReferenceSearcher = CachingReferenceSearcher(services.referenceSearcher)): Converter {
             return Converter(elementToConvert, settings, inConversionScope,
-                             services, CommonState(usageProcessingsCollector), PersonalState(null))
+                             services, CommonState(usageProcessingsCollector, referenceSearcher), PersonalState(null))
         }
     }
 
@@ -707,27 +708,6 @@ class Converter private constructor(
         val annotation = Annotation(Identifier("Throws").assignNoPrototype(), arguments, newLineAfter = true)
         return Annotations(listOf(annotation.assignPrototype(throwsList))).assignPrototype(throwsList)
     }
-
-    private class CachingReferenceSearcher(private val searcher: ReferenceSearcher) : ReferenceSearcher by searcher {
-        private val hasInheritorsCached = HashMap<PsiClass, Boolean>()
-        private val hasOverridesCached = HashMap<PsiMethod, Boolean>()
-
-        override fun hasInheritors(`class`: PsiClass): Boolean {
-            val cached = hasInheritorsCached[`class`]
-            if (cached != null) return cached
-            val result = searcher.hasInheritors(`class`)
-            hasInheritorsCached[`class`] = result
-            return result
-        }
-
-        override fun hasOverrides(method: PsiMethod): Boolean {
-            val cached = hasOverridesCached[method]
-            if (cached != null) return cached
-            val result = searcher.hasOverrides(method)
-            hasOverridesCached[method] = result
-            return result
-        }
-    }
 }
 
 val PRIMITIVE_TYPE_CONVERSIONS: Map<String, String> = mapOf(
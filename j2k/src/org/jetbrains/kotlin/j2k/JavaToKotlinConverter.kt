@@ -101,12 +101,23 @@ public class JavaToKotlinConverter(
                 usageProcessings.getOrPut(it.targetElement, { ArrayList() }).add(it)
             }
 
-            fun inConversionScope(element: PsiElement)
-                    = inputElements.any { it.isAncestor(element, strict = false) }
+            val inputFiles = inputElements.filterIsInstance<PsiFile>().toHashSet()
+            val onlyFiles = inputFiles.size() == inputElements.size()
+
+            fun inConversionScope(element: PsiElement): Boolean {
+                // checked for every reference found, so don't scan the whole input when converting many files
+                if (onlyFiles) {
+                    val file = element.getContainingFile() ?: return false
+                    return file in inputFiles
+                }
+                return inputElements.any { it.isAncestor(element, strict = false) }
+            }
 
+            // shared by all the files so that searches for declarations used across them are done once
+            val referenceSearcher = CachingReferenceSearcher(services.referenceSearcher)
 
             val intermediateResults = processor.processItems(0.25, inputElements) { inputElement ->
-                Converter.create(inputElement, settings, services, ::inConversionScope, usageProcessingCollector).convert()
+                Converter.create(inputElement, settings, services, ::inConversionScope, usageProcessingCollector, referenceSearcher).convert()
             }.toArrayList()
 
             val results = processor.processItems(0.25, intermediateResults.withIndex()) { pair ->
@@ -232,6 +243,8 @@ public class JavaToKotlinConverter(
             val DEFAULT = WithProgressProcessor(null, null)
         }
 
+        private val LOG = Logger.getInstance("#org.jetbrains.kotlin.j2k.JavaToKotlinConverter")
+
         private val progressText = "Converting Java to Kotlin"
         private val fileCount = files?.size() ?: 0
         private val fileCountText = fileCount.toString() + " " + if (fileCount > 1) "files" else "file"
@@ -248,6 +261,7 @@ public class JavaToKotlinConverter(
             ProgressManager.getInstance().runProcess(
                     {
                         progress?.setText("$progressText ($fileCountText) - pass $pass of 3")
+                        val startTime = System.nanoTime()
 
                         for ((i, item) in inputItems.withIndex()) {
                             progress?.checkCanceled()
@@ -258,6 +272,10 @@ public class JavaToKotlinConverter(
                             outputItems.add(processItem(item))
                         }
 
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Pass $pass for $fileCountText took ${(System.nanoTime() - startTime) / 1000000} ms")
+                        }
+
                         pass++
                         fraction += fractionPortion
                     },
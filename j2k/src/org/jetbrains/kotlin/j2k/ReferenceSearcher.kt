@@ -18,6 +18,7 @@ package org.jetbrains.kotlin.j2k
 
 import com.intellij.psi.*
 import com.intellij.psi.util.PsiUtil
+import java.util.*
 
 public interface ReferenceSearcher {
     fun findLocalUsages(element: PsiElement, scope: PsiElement): Collection<PsiReference>
@@ -67,6 +68,32 @@ public fun PsiField.isVar(searcher: ReferenceSearcher): Boolean {
 public fun PsiVariable.hasWriteAccesses(searcher: ReferenceSearcher, scope: PsiElement?): Boolean
         = if (scope != null) searcher.findVariableUsages(this, scope).any { PsiUtil.isAccessedForWriting(it) } else false
 
+// searches are repeated for the same declarations from different files and special contexts, nothing is modified while converting
+public class CachingReferenceSearcher(private val searcher: ReferenceSearcher) : ReferenceSearcher by searcher {
+    private val localUsagesCached = HashMap<Pair<PsiElement, PsiElement>, Collection<PsiReference>>()
+    private val hasInheritorsCached = HashMap<PsiClass, Boolean>()
+    private val hasOverridesCached = HashMap<PsiMethod, Boolean>()
+
+    override fun findLocalUsages(element: PsiElement, scope: PsiElement): Collection<PsiReference>
+            = localUsagesCached.getOrPut(element to scope) { searcher.findLocalUsages(element, scope) }
+
+    override fun hasInheritors(`class`: PsiClass): Boolean {
+        val cached = hasInheritorsCached[`class`]
+        if (cached != null) return cached
+        val result = searcher.hasInheritors(`class`)
+        hasInheritorsCached[`class`] = result
+        return result
+    }
+
+    override fun hasOverrides(method: PsiMethod): Boolean {
+        val cached = hasOverridesCached[method]
+        if (cached != null) return cached
+        val result = searcher.hasOverrides(method)
+        hasOverridesCached[method] = result
+        return result
+    }
+}
+
 public object EmptyReferenceSearcher: ReferenceSearcher {
     override fun findLocalUsages(element: PsiElement, scope: PsiElement): Collection<PsiReference> = emptyList()
     override fun hasInheritors(`class`: PsiClass) = false
@@ -33,11 +33,14 @@ public var JsInvocation.psiElement: PsiElement? by MetadataProperty(default = nu
 
 public var JsFunction.isLocal: Boolean by MetadataProperty(default = false)
 
+public var JsFunction.isPrivate: Boolean by MetadataProperty(default = false)
+
 public var JsParameter.hasDefaultValue: Boolean by MetadataProperty(default = false)
 
 public var JsInvocation.typeCheck: TypeCheck? by MetadataProperty(default = null)
 
 public enum class TypeCheck {
     TYPEOF,
-    INSTANCEOF
+    INSTANCEOF,
+    INSTANCEOF_CLASS
 }
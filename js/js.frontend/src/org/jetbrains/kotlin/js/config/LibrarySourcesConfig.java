@@ -18,10 +18,12 @@ package org.jetbrains.kotlin.js.config;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.*;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.reference.SoftReference;
 import com.intellij.util.PathUtil;
 import com.intellij.util.io.URLUtil;
 import kotlin.Unit;
@@ -37,8 +39,16 @@ import org.jetbrains.kotlin.utils.KotlinJavascriptMetadataUtils;
 import org.jetbrains.kotlin.utils.LibraryUtils;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.jetbrains.kotlin.utils.LibraryUtils.isOldKotlinJavascriptLibrary;
 import static org.jetbrains.kotlin.utils.PathUtil.getKotlinPathsForDistDirectory;
@@ -57,6 +67,9 @@ public class LibrarySourcesConfig extends Config {
     public static final String BUILTINS_JS_FILE_NAME = BUILTINS_JS_MODULE_NAME + JavaScript.DOT_EXTENSION;
     public static final String STDLIB_JS_FILE_NAME = STDLIB_JS_MODULE_NAME + JavaScript.DOT_EXTENSION;
 
+    // Libraries are checked and then loaded in every compilation, and usually the same ones (e.g. stdlib) are used over and over
+    private static final ConcurrentMap<String, CachedMetadata> METADATA_CACHE = new ConcurrentHashMap<String, CachedMetadata>();
+
     private final boolean isUnitTestConfig;
 
     @NotNull
@@ -110,7 +123,7 @@ public class LibrarySourcesConfig extends Config {
                 else {
                     String libraryPath = PathUtil.getLocalPath(file);
                     assert libraryPath != null : "libraryPath for " + file + " should not be null";
-                    metadata.addAll(KotlinJavascriptMetadataUtils.loadMetadata(libraryPath));
+                    metadata.addAll(loadMetadata(new File(libraryPath)));
                 }
 
                 return Unit.INSTANCE$;
@@ -161,7 +174,7 @@ public class LibrarySourcesConfig extends Config {
                 moduleName = LibraryUtils.getKotlinJsModuleName(filePath);
             }
             else {
-                List<KotlinJavascriptMetadata> metadataList = KotlinJavascriptMetadataUtils.loadMetadata(filePath);
+                List<KotlinJavascriptMetadata> metadataList = loadMetadata(filePath);
                 if (metadataList.isEmpty()) {
                     report.invoke("'" + path + "' is not a valid Kotlin Javascript library");
                     return true;
@@ -187,6 +200,71 @@ public class LibrarySourcesConfig extends Config {
         return false;
     }
 
+    @NotNull
+    static List<KotlinJavascriptMetadata> loadMetadata(@NotNull File file) {
+        // Directories and .js files may be rebuilt in place (and .js files come with a sibling .meta.js),
+        // only archives are cached
+        if (!file.isFile() || !FileUtil.isJarOrZip(file)) {
+            return KotlinJavascriptMetadataUtils.loadMetadata(file);
+        }
+
+        String path = file.getAbsolutePath();
+        byte[] contentHash = computeContentHash(file);
+        if (contentHash == null) {
+            return KotlinJavascriptMetadataUtils.loadMetadata(file);
+        }
+
+        CachedMetadata cached = METADATA_CACHE.get(path);
+        List<KotlinJavascriptMetadata> metadata = cached != null ? cached.get(contentHash) : null;
+        if (metadata == null) {
+            metadata = Collections.unmodifiableList(KotlinJavascriptMetadataUtils.loadMetadata(file));
+            METADATA_CACHE.put(path, new CachedMetadata(contentHash, metadata));
+        }
+        return metadata;
+    }
+
+    // Hashing an archive is much cheaper than parsing metadata out of it, and unlike time stamps it can't miss a rewrite
+    @Nullable
+    private static byte[] computeContentHash(@NotNull File file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            InputStream input = new FileInputStream(file);
+            try {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            finally {
+                input.close();
+            }
+            return digest.digest();
+        }
+        catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static class CachedMetadata {
+        private final byte[] contentHash;
+        private final SoftReference<List<KotlinJavascriptMetadata>> metadata;
+
+        private CachedMetadata(@NotNull byte[] contentHash, @NotNull List<KotlinJavascriptMetadata> metadata) {
+            this.contentHash = contentHash;
+            this.metadata = new SoftReference<List<KotlinJavascriptMetadata>>(metadata);
+        }
+
+        @Nullable
+        private List<KotlinJavascriptMetadata> get(@NotNull byte[] contentHash) {
+            if (!Arrays.equals(this.contentHash, contentHash)) return null;
+            return SoftReference.dereference(metadata);
+        }
+    }
+
     public static class Builder {
         Project project;
         String moduleId;
@@ -17,21 +17,25 @@
 package org.jetbrains.kotlin.js.inline.clean
 
 import com.google.dart.compiler.backend.js.ast.*
-import com.google.dart.compiler.backend.js.ast.metadata.staticRef
 import com.google.dart.compiler.backend.js.ast.metadata.isLocal
+import com.google.dart.compiler.backend.js.ast.metadata.isPrivate
 
 import org.jetbrains.kotlin.js.inline.util.IdentitySet
-import org.jetbrains.kotlin.js.inline.util.collectFunctionReferencesInside
+import org.jetbrains.kotlin.js.inline.util.collectReferencesInside
 
 /**
  * Removes unused function definitions:
  *  f: function() { return 10 }
  *
- * At now, it only removes unused local functions and function literals,
- * because named functions can be referenced from another module.
+ * At now, it only removes unused local functions, function literals
+ * and private package-level functions, because other named functions
+ * can be referenced from another module.
+ *
+ * Reachability is computed from every reference outside removable functions,
+ * so a private function used only by another unused private function is removed too.
  */
 public fun removeUnusedFunctionDefinitions(root: JsNode, functions: Map<JsName, JsFunction>) {
-    val removable = with(UnusedLocalFunctionsCollector(functions)) {
+    val removable = with(UnusedFunctionsCollector(functions)) {
         process()
         accept(root)
         removableFunctions
@@ -43,7 +47,7 @@ public fun removeUnusedFunctionDefinitions(root: JsNode, functions: Map<JsName,
     }.accept(root)
 }
 
-private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>) : JsVisitorWithContextImpl() {
+private class UnusedFunctionsCollector(functions: Map<JsName, JsFunction>) : JsVisitorWithContextImpl() {
     private val tracker = ReferenceTracker<JsName, JsFunction>()
     private val functions = functions
     private val processed = IdentitySet<JsFunction>()
@@ -52,14 +56,14 @@ private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>)
         get() = tracker.removable
 
     public fun process() {
-        functions.filter { it.value.isLocal }
+        functions.filter { isRemovable(it.value) }
                  .forEach { tracker.addCandidateForRemoval(it.key, it.value) }
 
         for ((name, function) in functions) {
-            if (function.isLocal) {
-                processLocalFunction(name, function)
+            if (isRemovable(function)) {
+                processRemovableFunction(name, function)
             } else {
-                processNonLocalFunction(function)
+                processNonRemovableFunction(function)
             }
 
             processed.add(function)
@@ -85,26 +89,24 @@ private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>)
 
     override fun endVisit(x: JsNameRef, ctx: JsContext<*>) {
         val name = x.getName()
-        if (isFunctionReference(x) && name != null) {
+        if (name != null) {
             tracker.markReachable(name)
         }
     }
 
-    private fun processLocalFunction(name: JsName, function: JsFunction) {
-        for (referenced in collectFunctionReferencesInside(function)) {
+    private fun processRemovableFunction(name: JsName, function: JsFunction) {
+        for (referenced in collectReferencesInside(function)) {
             tracker.addRemovableReference(name, referenced)
         }
     }
 
-    private fun processNonLocalFunction(function: JsFunction) {
-        for (referenced in collectFunctionReferencesInside(function)) {
+    private fun processNonRemovableFunction(function: JsFunction) {
+        for (referenced in collectReferencesInside(function)) {
             tracker.markReachable(referenced)
         }
     }
 
-    private fun isFunctionReference(nameRef: HasName?): Boolean {
-        return nameRef?.getName()?.staticRef is JsFunction
-    }
+    private fun isRemovable(function: JsFunction): Boolean = function.isLocal || function.isPrivate
 
     private fun wasProcessed(function: JsFunction?): Boolean = function in processed
 }
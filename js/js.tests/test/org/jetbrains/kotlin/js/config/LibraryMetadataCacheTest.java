@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.config;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.utils.KotlinJavascriptMetadata;
+import org.jetbrains.kotlin.utils.KotlinJavascriptMetadataUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class LibraryMetadataCacheTest extends UsefulTestCase {
+    private File tempDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        tempDir = FileUtil.createTempDirectory("libraryMetadataCache", null);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FileUtil.delete(tempDir);
+        super.tearDown();
+    }
+
+    public void testUnchangedArchiveIsCached() throws Exception {
+        for (String name : new String[] { "lib.jar", "lib.zip" }) {
+            File library = new File(tempDir, name);
+            writeArchive(library, "first");
+
+            List<KotlinJavascriptMetadata> metadata = LibrarySourcesConfig.loadMetadata(library);
+            assertMetadata("first", metadata);
+            assertSame(name, metadata, LibrarySourcesConfig.loadMetadata(library));
+        }
+    }
+
+    public void testRewrittenArchiveWithSameStamps() throws Exception {
+        File library = new File(tempDir, "lib.jar");
+
+        writeArchive(library, "first");
+        long lastModified = library.lastModified();
+        assertMetadata("first", LibrarySourcesConfig.loadMetadata(library));
+
+        writeArchive(library, "other");
+        assertTrue(library.setLastModified(lastModified));
+        assertMetadata("other", LibrarySourcesConfig.loadMetadata(library));
+    }
+
+    public void testRewrittenFileInDirectory() throws Exception {
+        File library = new File(tempDir, "lib");
+        File jsFile = new File(library, "lib.js");
+
+        FileUtil.writeToFile(jsFile, metadataText("first"));
+        assertMetadata("first", LibrarySourcesConfig.loadMetadata(library));
+
+        FileUtil.writeToFile(jsFile, metadataText("other"));
+        assertMetadata("other", LibrarySourcesConfig.loadMetadata(library));
+    }
+
+    public void testRewrittenMetaJsNextToJsFile() throws Exception {
+        File library = new File(tempDir, "lib.js");
+        File metaFile = new File(tempDir, "lib.meta.js");
+
+        FileUtil.writeToFile(library, "");
+        FileUtil.writeToFile(metaFile, metadataText("first"));
+        assertMetadata("first", LibrarySourcesConfig.loadMetadata(library));
+
+        FileUtil.writeToFile(metaFile, metadataText("other"));
+        assertMetadata("other", LibrarySourcesConfig.loadMetadata(library));
+    }
+
+    private static void writeArchive(@NotNull File file, @NotNull String body) throws IOException {
+        ZipOutputStream output = new ZipOutputStream(new FileOutputStream(file));
+        try {
+            output.putNextEntry(new ZipEntry("lib.js"));
+            output.write(metadataText(body).getBytes("UTF-8"));
+            output.closeEntry();
+        }
+        finally {
+            output.close();
+        }
+    }
+
+    @NotNull
+    private static String metadataText(@NotNull String body) throws IOException {
+        return KotlinJavascriptMetadataUtils.INSTANCE$.formatMetadataAsString("lib", body.getBytes("UTF-8"));
+    }
+
+    private static void assertMetadata(@NotNull String expectedBody, @NotNull List<KotlinJavascriptMetadata> metadata) throws IOException {
+        assertEquals(1, metadata.size());
+        assertEquals(expectedBody, new String(metadata.get(0).getBody(), "UTF-8"));
+    }
+}
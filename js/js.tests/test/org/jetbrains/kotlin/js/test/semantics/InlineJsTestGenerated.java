@@ -293,6 +293,12 @@ public class InlineJsTestGenerated extends AbstractInlineJsTest {
         doTest(fileName);
     }
 
+    @TestMetadata("privateFunctionsRemoval.kt")
+    public void testPrivateFunctionsRemoval() throws Exception {
+        String fileName = JetTestUtils.navigationMetadata("js/js.translator/testData/inline/cases/privateFunctionsRemoval.kt");
+        doTest(fileName);
+    }
+
     @TestMetadata("rootConstructor.kt")
     public void testRootConstructor() throws Exception {
         String fileName = JetTestUtils.navigationMetadata("js/js.translator/testData/inline/cases/rootConstructor.kt");
@@ -55,4 +55,8 @@ public class RTTITest extends SingleFileTranslationTest {
     public void testIsJsPrimitiveType() throws Exception {
         checkFooBoxIsOk();
     }
+
+    public void testIsClassWithoutRuntimeCall() throws Exception {
+        checkFooBoxIsOk();
+    }
 }
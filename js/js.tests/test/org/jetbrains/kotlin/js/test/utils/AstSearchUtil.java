@@ -31,11 +31,16 @@ import static org.jetbrains.kotlin.js.inline.util.CollectUtilsKt.collectJsProper
 public class AstSearchUtil {
     @NotNull
     public static JsFunction getFunction(@NotNull JsNode searchRoot, String name) {
-        JsFunction function = findByIdent(collectNamedFunctions(searchRoot), name);
+        JsFunction function = findFunction(searchRoot, name);
         assert function != null: "Function `" + name + "` was not found";
         return function;
     }
 
+    @Nullable
+    public static JsFunction findFunction(@NotNull JsNode searchRoot, @NotNull String name) {
+        return findByIdent(collectNamedFunctions(searchRoot), name);
+    }
+
     @NotNull
     public static JsExpression getProperty(@NotNull JsNode searchRoot, @NotNull String name) {
         JsExpression property = findByIdent(collectJsProperties(searchRoot), name);
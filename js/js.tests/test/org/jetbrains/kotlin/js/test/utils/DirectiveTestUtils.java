@@ -45,6 +45,20 @@ public class DirectiveTestUtils {
         }
     };
 
+    private static final DirectiveHandler FUNCTION_EXISTS = new DirectiveHandler("CHECK_FUNCTION_EXISTS") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            checkFunctionExists(ast, arguments.getFirst(), true);
+        }
+    };
+
+    private static final DirectiveHandler FUNCTION_NOT_EXISTS = new DirectiveHandler("CHECK_FUNCTION_NOT_EXISTS") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            checkFunctionExists(ast, arguments.getFirst(), false);
+        }
+    };
+
     private static final DirectiveHandler FUNCTION_CALLED_IN_SCOPE = new DirectiveHandler("CHECK_CALLED_IN_SCOPE") {
         @Override
         void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
@@ -163,6 +177,8 @@ public class DirectiveTestUtils {
     private static final List<DirectiveHandler> DIRECTIVE_HANDLERS = Arrays.asList(
             FUNCTION_CONTAINS_NO_CALLS,
             FUNCTION_NOT_CALLED,
+            FUNCTION_EXISTS,
+            FUNCTION_NOT_EXISTS,
             FUNCTION_CALLED_IN_SCOPE,
             FUNCTION_NOT_CALLED_IN_SCOPE,
             FUNCTIONS_HAVE_SAME_LINES,
@@ -196,6 +212,11 @@ public class DirectiveTestUtils {
         assertEquals(errorMessage, 0, functionCalledCount);
     }
 
+    public static void checkFunctionExists(@NotNull JsNode node, @NotNull String functionName, boolean expected) throws Exception {
+        String errorMessage = "function `" + functionName + "` " + (expected ? "is not defined" : "is defined");
+        assertEquals(errorMessage, expected, AstSearchUtil.findFunction(node, functionName) != null);
+    }
+
     public static void checkCalledInScope(
             @NotNull JsNode node,
             @NotNull String functionName,
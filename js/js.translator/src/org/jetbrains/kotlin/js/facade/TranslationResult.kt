@@ -32,11 +32,15 @@ import org.jetbrains.kotlin.js.sourceMap.SourceMapBuilder
 import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.resolve.diagnostics.Diagnostics
 import org.jetbrains.kotlin.serialization.js.KotlinJavascriptSerializationUtil
+import org.jetbrains.kotlin.util.PerformanceCounter
 import org.jetbrains.kotlin.utils.KotlinJavascriptMetadataUtils
 import org.jetbrains.kotlin.utils.fileUtils.readTextOrEmpty
 import java.io.File
 import java.util.ArrayList
 
+private val codeGenerationCounter = PerformanceCounter.create("JS code generation")
+private val sourceMapGenerationCounter = PerformanceCounter.create("JS source map generation")
+
 public abstract class TranslationResult protected constructor(public val diagnostics: Diagnostics) {
 
     public class Fail(diagnostics: Diagnostics) : TranslationResult(diagnostics)
@@ -82,7 +86,8 @@ public abstract class TranslationResult protected constructor(public val diagnos
 
             if (sourceMapBuilder != null) {
                 sourceMapBuilder.skipLinesAtBeginning(StringUtil.getLineBreakCount(prefix))
-                val sourceMapFile = SimpleOutputFile(sourceFiles, sourceMapBuilder.getOutFile().getName(), sourceMapBuilder.build())
+                val sourceMap = sourceMapGenerationCounter.time { sourceMapBuilder.build() }
+                val sourceMapFile = SimpleOutputFile(sourceFiles, sourceMapBuilder.getOutFile().getName(), sourceMap)
                 outputFiles.add(sourceMapFile)
             }
 
@@ -90,8 +95,10 @@ public abstract class TranslationResult protected constructor(public val diagnos
         }
 
         private fun getCode(output: TextOutput, sourceMapBuilder: SourceMapBuilder?): String {
-            program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
-            return output.toString()
+            return codeGenerationCounter.time {
+                program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
+                output.toString()
+            }
         }
     }
 }
@@ -18,7 +18,6 @@ package org.jetbrains.kotlin.js.sourceMap;
 
 import com.google.dart.compiler.common.SourceInfo;
 import com.google.dart.compiler.util.TextOutput;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.util.PairConsumer;
 import gnu.trove.TObjectIntHashMap;
 
@@ -45,6 +44,8 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     private final List<String> orderedSources = new ArrayList<String>();
 
+    private int skippedLines;
+
     private int previousGeneratedColumn = -1;
     private int previousSourceIndex;
     private int previousSourceLine;
@@ -63,16 +64,28 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public String build() {
-        StringBuilder sb = new StringBuilder(out.length() + (128 * orderedSources.size()));
+        StringBuilder sb = new StringBuilder(estimateSize());
         sb.append("{\"version\":3,\"file\":\"").append(generatedFile.getName()).append('"').append(',');
         appendSources(sb);
         sb.append(",\"names\":[");
         sb.append("],\"mappings\":\"");
+        for (int i = 0; i < skippedLines; i++) {
+            sb.append(';');
+        }
         sb.append(out);
         sb.append("\"}");
         return sb.toString();
     }
 
+    // mappings take almost all of the space, so the result is built without reallocations
+    private int estimateSize() {
+        int size = 64 + generatedFile.getName().length() + skippedLines + out.length();
+        for (String source : orderedSources) {
+            size += source.length() + 10;
+        }
+        return size;
+    }
+
     private void appendSources(StringBuilder sb) {
         boolean isNotFirst = false;
         sb.append('"').append("sources").append("\":[");
@@ -96,7 +109,8 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public void skipLinesAtBeginning(int count) {
-        out.insert(0, StringUtil.repeatSymbol(';', count));
+        // mappings may be large, so skipped lines are prepended in build() instead of shifting them
+        skippedLines += count;
     }
 
     @Override
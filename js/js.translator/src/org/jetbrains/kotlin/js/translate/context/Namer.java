@@ -407,6 +407,13 @@ public final class Namer {
         return invocation;
     }
 
+    @NotNull
+    public JsExpression isInstanceOfClass(@NotNull JsExpression type) {
+        JsInvocation invocation = new JsInvocation(kotlin("isInstanceOf"), type);
+        MetadataProperties.setTypeCheck(invocation, TypeCheck.INSTANCEOF_CLASS);
+        return invocation;
+    }
+
     @NotNull
     public JsExpression isInstanceOf(@NotNull JsExpression instance, @NotNull JsExpression type) {
         return new JsInvocation(kotlin(isTypeName), instance, type);
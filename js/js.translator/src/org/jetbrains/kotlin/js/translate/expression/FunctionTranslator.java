@@ -98,6 +98,11 @@ public final class FunctionTranslator extends AbstractTranslator {
         JsName functionName = context().getNameForDescriptor(descriptor);
         generateFunctionObject();
 
+        if (descriptor.getContainingDeclaration() instanceof PackageFragmentDescriptor &&
+            Visibilities.isPrivate(descriptor.getVisibility())) {
+            MetadataProperties.setPrivate(functionObject, true);
+        }
+
         if (shouldBeInlined(descriptor) && DescriptorUtilsKt.isEffectivelyPublicApi(descriptor)) {
             InlineMetadata metadata = InlineMetadata.compose(functionObject, descriptor);
             return new JsPropertyInitializer(functionName.makeRef(), metadata.getFunctionWithMetadata());
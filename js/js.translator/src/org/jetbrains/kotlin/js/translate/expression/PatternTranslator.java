@@ -26,7 +26,9 @@ import org.jetbrains.kotlin.js.translate.context.TranslationContext;
 import org.jetbrains.kotlin.js.translate.general.AbstractTranslator;
 import org.jetbrains.kotlin.js.translate.general.Translation;
 import org.jetbrains.kotlin.js.patterns.NamePredicate;
+import org.jetbrains.kotlin.js.translate.utils.AnnotationsUtils;
 import org.jetbrains.kotlin.js.translate.utils.BindingUtils;
+import org.jetbrains.kotlin.js.translate.utils.JsDescriptorUtils;
 import org.jetbrains.kotlin.js.translate.utils.TranslationUtils;
 import org.jetbrains.kotlin.name.Name;
 import org.jetbrains.kotlin.psi.KtExpression;
@@ -90,9 +92,23 @@ public final class PatternTranslator extends AbstractTranslator {
         }
 
         JsNameRef typeName = getClassNameReference(type);
+        if (isCheckedByPrototypeChain(typeDescriptor)) {
+            return namer().isInstanceOfClass(typeName);
+        }
         return namer().isInstanceOf(typeName);
     }
 
+    // Kotlin classes are created with their superclass prototype in the chain, so `instanceof` gives the same answer as
+    // Kotlin.isType without walking the class metadata. Interfaces are not in the chain and still need the runtime check.
+    private static boolean isCheckedByPrototypeChain(@Nullable ClassifierDescriptor descriptor) {
+        if (!(descriptor instanceof ClassDescriptor)) return false;
+
+        ClassKind kind = ((ClassDescriptor) descriptor).getKind();
+        return (kind == ClassKind.CLASS || kind == ClassKind.ENUM_CLASS) &&
+               !JsDescriptorUtils.isBuiltin(descriptor) &&
+               !AnnotationsUtils.isPredefinedObject(descriptor);
+    }
+
     @Nullable
     private JsExpression getIsTypeCheckCallableForBuiltin(@NotNull KotlinType type) {
         Name typeName = DescriptorUtilsKt.getNameIfStandardType(type);
@@ -32,6 +32,7 @@ public fun expandIsCalls(node: JsNode, context: TranslationContext) {
             val replacement = when (callee?.typeCheck) {
                 TypeCheck.TYPEOF -> typeof(instance!!, type as JsStringLiteral)
                 TypeCheck.INSTANCEOF -> context.namer().isInstanceOf(instance!!, type!!)
+                TypeCheck.INSTANCEOF_CLASS -> JsBinaryOperation(JsBinaryOperator.INSTANCEOF, instance!!, type!!)
                 else -> null
             }
 
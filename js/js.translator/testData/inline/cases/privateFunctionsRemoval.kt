@@ -0,0 +1,29 @@
+package foo
+
+// CHECK_FUNCTION_NOT_EXISTS: unused
+// CHECK_FUNCTION_NOT_EXISTS: usedByUnused
+// CHECK_FUNCTION_EXISTS: usedByReference
+// CHECK_FUNCTION_EXISTS: usedFromLambda
+// CHECK_FUNCTION_EXISTS: usedDirectly
+
+private fun usedByUnused(): Int = 1
+
+private fun unused(): Int = usedByUnused() + 1
+
+private fun usedByReference(x: Int): Int = x + 2
+
+private fun usedFromLambda(): Int = 3
+
+private fun usedDirectly(): Int = 4
+
+fun box(): String {
+    val reference = ::usedByReference
+    if (reference(1) != 3) return "fail: callable reference"
+
+    val lambda = { usedFromLambda() }
+    if (lambda() != 3) return "fail: lambda"
+
+    if (usedDirectly() != 4) return "fail: direct call"
+
+    return "OK"
+}
@@ -91,12 +91,30 @@ var Kotlin = {};
         }
     }
 
+    /**
+     * Collects indices of all direct and indirect Kotlin bases, so that checking against an interface
+     * is a single property lookup instead of a walk over the whole hierarchy.
+     */
+    function computeAllBases(baseClasses) {
+        var allBases = {};
+        for (var i = 0; i < baseClasses.length; i++) {
+            var base = baseClasses[i];
+            if (isNativeClass(base)) {
+                continue;
+            }
+            copyProperties(allBases, base.$metadata$.allBases);
+            allBases[base.$metadata$.classIndex] = true;
+        }
+        return allBases;
+    }
+
     function computeMetadata(bases, properties) {
         var metadata = {};
 
         metadata.baseClasses = toArray(bases);
         metadata.baseClass = getClass(metadata.baseClasses);
         metadata.classIndex = Kotlin.newClassIndex();
+        metadata.allBases = computeAllBases(metadata.baseClasses);
         metadata.functions = {};
         metadata.properties = {};
 
@@ -300,19 +318,7 @@ var Kotlin = {};
         if (isNativeClass(objConstructor) || objConstructor.$metadata$.classIndex < trait.$metadata$.classIndex) {
             return false;
         }
-        var baseClasses = objConstructor.$metadata$.baseClasses;
-        var i;
-        for (i = 0; i < baseClasses.length; i++) {
-            if (baseClasses[i] === trait) {
-                return true;
-            }
-        }
-        for (i = 0; i < baseClasses.length; i++) {
-            if (isInheritanceFromTrait(baseClasses[i], trait)) {
-                return true;
-            }
-        }
-        return false;
+        return objConstructor.$metadata$.allBases[trait.$metadata$.classIndex] === true;
     }
 
     Kotlin.isType = function (object, klass) {
@@ -132,6 +132,10 @@
      * @return {!Kotlin.Long} The corresponding Long value.
      */
     Kotlin.Long.fromBits = function(lowBits, highBits) {
+      lowBits |= 0;
+      if (-128 <= lowBits && lowBits < 128 && (highBits | 0) == (lowBits >> 31)) {
+        return Kotlin.Long.fromInt(lowBits);
+      }
       return new Kotlin.Long(lowBits, highBits);
     };
 
@@ -453,25 +457,18 @@
      *     if the given one is greater.
      */
     Kotlin.Long.prototype.compare = function(other) {
-      if (this.equals(other)) {
-        return 0;
-      }
-
-      var thisNeg = this.isNegative();
-      var otherNeg = other.isNegative();
-      if (thisNeg && !otherNeg) {
-        return -1;
-      }
-      if (!thisNeg && otherNeg) {
-        return 1;
+      // Compare the signed high words first and fall back to the unsigned low
+      // words, so that no intermediate Long is allocated.
+      if (this.high_ != other.high_) {
+        return this.high_ < other.high_ ? -1 : 1;
       }
 
-      // at this point, the signs are the same, so subtraction will not overflow
-      if (this.subtract(other).isNegative()) {
-        return -1;
-      } else {
-        return 1;
+      var thisLow = this.low_ >>> 0;
+      var otherLow = other.low_ >>> 0;
+      if (thisLow == otherLow) {
+        return 0;
       }
+      return thisLow < otherLow ? -1 : 1;
     };
 
 
@@ -491,6 +488,10 @@
      * @return {!Kotlin.Long} The sum of this and the given Long.
      */
     Kotlin.Long.prototype.add = function(other) {
+      if (this.isInt_() && other.isInt_()) {
+        return Kotlin.Long.fromSmallNumber_(this.low_ + other.low_);
+      }
+
       // Divide each number into 4 chunks of 16 bits, and then sum the chunks.
 
       var a48 = this.high_ >>> 16;
@@ -525,10 +526,34 @@
      * @return {!Kotlin.Long} The difference of this and the given Long.
      */
     Kotlin.Long.prototype.subtract = function(other) {
+      if (this.isInt_() && other.isInt_()) {
+        return Kotlin.Long.fromSmallNumber_(this.low_ - other.low_);
+      }
       return this.add(other.negate());
     };
 
 
+    /**
+     * @return {boolean} Whether this Long fits into 32 signed bits.
+     * @private
+     */
+    Kotlin.Long.prototype.isInt_ = function() {
+      return this.high_ == (this.low_ >> 31);
+    };
+
+
+    /**
+     * Returns a Long representing the given integral number, which must be in
+     * range [-2^53, 2^53], without going through the general fromNumber path.
+     * @param {number} value The number in question.
+     * @return {!Kotlin.Long} The corresponding Long value.
+     * @private
+     */
+    Kotlin.Long.fromSmallNumber_ = function(value) {
+      return Kotlin.Long.fromBits(value | 0, Math.floor(value / Kotlin.Long.TWO_PWR_32_DBL_));
+    };
+
+
     /**
      * Returns the product of this and the given long.
      * @param {Kotlin.Long} other Long to multiply with this.
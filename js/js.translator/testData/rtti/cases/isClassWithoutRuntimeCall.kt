@@ -0,0 +1,31 @@
+package foo
+
+// CHECK_NOT_CALLED: isType
+
+sealed class Expr {
+    class Num(val value: Int) : Expr()
+    class Sum(val left: Expr, val right: Expr) : Expr()
+    open class Neg(val operand: Expr) : Expr()
+}
+
+class DoubleNeg(operand: Expr) : Expr.Neg(Expr.Neg(operand))
+
+fun eval(e: Expr): Int = when (e) {
+    is Expr.Num -> e.value
+    is Expr.Sum -> eval(e.left) + eval(e.right)
+    is Expr.Neg -> -eval(e.operand)
+}
+
+fun box(): String {
+    val e = Expr.Sum(Expr.Num(40), DoubleNeg(Expr.Num(2)))
+    if (eval(e) != 42) return "fail: ${eval(e)}"
+
+    val n: Any? = null
+    if (n is Expr) return "null is Expr"
+
+    val d: Any = DoubleNeg(Expr.Num(1))
+    if (d !is Expr.Neg) return "d !is Expr.Neg"
+    if (d is Expr.Num) return "d is Expr.Num"
+
+    return "OK"
+}